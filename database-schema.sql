@@ -23,12 +23,16 @@ CREATE TABLE IF NOT EXISTS expenses (
     amount DECIMAL(10, 2) NOT NULL,
     category VARCHAR(100) NOT NULL,
     description VARCHAR(500),
+    search_tokens TEXT, -- owner-scoped words for FULLTEXT search (see SearchTokens)
     transaction_date DATE NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
     INDEX idx_user_id (user_id),
     INDEX idx_category (category),
-    INDEX idx_transaction_date (transaction_date)
+    INDEX idx_transaction_date (transaction_date),
+    INDEX idx_user_date_id (user_id, transaction_date, id),
+    INDEX idx_user_date_category_amount (user_id, transaction_date, category, amount),
+    FULLTEXT INDEX ft_expense_search (search_tokens)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 -- Incomes Table
@@ -38,13 +42,53 @@ CREATE TABLE IF NOT EXISTS incomes (
     amount DECIMAL(10, 2) NOT NULL,
     source VARCHAR(255) NOT NULL,
     description VARCHAR(500),
+    search_tokens TEXT,
     frequency VARCHAR(50) NOT NULL,
     transaction_date DATE NOT NULL,
     recurring BOOLEAN DEFAULT FALSE,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
     INDEX idx_user_id (user_id),
-    INDEX idx_transaction_date (transaction_date)
+    INDEX idx_transaction_date (transaction_date),
+    INDEX idx_user_date_id (user_id, transaction_date, id),
+    FULLTEXT INDEX ft_income_search (search_tokens)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Archive Tables
+-- Transactions older than finance.archive.horizon-months, moved out of the hot tables in chunks
+-- by a nightly job. Rows keep their ids; the monthly_summaries rollup still counts them.
+CREATE TABLE IF NOT EXISTS expenses_archive (
+    id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    amount DECIMAL(10, 2) NOT NULL,
+    category VARCHAR(100) NOT NULL,
+    description VARCHAR(500),
+    search_tokens TEXT,
+    transaction_date DATE NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    INDEX idx_expense_archive_user_date_id (user_id, transaction_date, id),
+    INDEX idx_expense_archive_date (transaction_date),
+    FULLTEXT INDEX ft_expense_archive_search (search_tokens)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE IF NOT EXISTS incomes_archive (
+    id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    amount DECIMAL(10, 2) NOT NULL,
+    source VARCHAR(255) NOT NULL,
+    description VARCHAR(500),
+    search_tokens TEXT,
+    frequency VARCHAR(50) NOT NULL,
+    transaction_date DATE NOT NULL,
+    recurring BOOLEAN DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    INDEX idx_income_archive_user_date_id (user_id, transaction_date, id),
+    INDEX idx_income_archive_date (transaction_date),
+    FULLTEXT INDEX ft_income_archive_search (search_tokens)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 -- Budgets Table
@@ -66,33 +110,77 @@ CREATE TABLE IF NOT EXISTS budgets (
 
 
 
--- Monthly expense summary view
+-- Monthly Summaries Table
+-- Incremental per-user/month rollup of expenses (by category) and incomes (by source).
+-- Maintained in the same transaction as every expense/income write; rebuild with
+-- POST /api/summaries/rebuild or --finance.summaries.rebuild-on-startup=true.
+CREATE TABLE IF NOT EXISTS monthly_summaries (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    kind VARCHAR(20) NOT NULL,
+    year INT NOT NULL,
+    month INT NOT NULL,
+    category VARCHAR(255) NOT NULL,
+    total_amount DECIMAL(12, 2) NOT NULL,
+    transaction_count BIGINT NOT NULL,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    UNIQUE KEY unique_user_kind_month_category (user_id, kind, year, month, category)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Data Versions Table
+-- Per-user version, bumped in the same transaction as every expense, income and budget write;
+-- served as the ETag of the user's list endpoints.
+CREATE TABLE IF NOT EXISTS data_versions (
+    user_id BIGINT PRIMARY KEY,
+    version BIGINT NOT NULL,
+    last_write_millis BIGINT NOT NULL,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Budget Alerts Table
+-- One row per budget and spending threshold crossed (finance.alerts.thresholds, percent of
+-- the budget), written asynchronously after expense and budget writes.
+CREATE TABLE IF NOT EXISTS budget_alerts (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    budget_id BIGINT NOT NULL,
+    category VARCHAR(255) NOT NULL,
+    month INT NOT NULL,
+    year INT NOT NULL,
+    threshold INT NOT NULL,
+    spent_amount DECIMAL(12, 2) NOT NULL,
+    budget_amount DECIMAL(10, 2) NOT NULL,
+    acknowledged BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    FOREIGN KEY (budget_id) REFERENCES budgets(id) ON DELETE CASCADE,
+    INDEX idx_user_created (user_id, created_at),
+    UNIQUE KEY unique_budget_threshold (budget_id, threshold)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Monthly expense summary view (point lookups on the rollup)
 CREATE OR REPLACE VIEW monthly_expense_summary AS
 SELECT
-    u.id as user_id,
-    u.full_name,
-    YEAR(e.transaction_date) as year,
-    MONTH(e.transaction_date) as month,
-    e.category,
-    SUM(e.amount) as total_amount,
-    COUNT(*) as transaction_count
-FROM users u
-JOIN expenses e ON u.id = e.user_id
-GROUP BY u.id, u.full_name, YEAR(e.transaction_date), MONTH(e.transaction_date), e.category;
-
--- Monthly income summary view
+    s.user_id,
+    s.year,
+    s.month,
+    s.category,
+    s.total_amount,
+    s.transaction_count
+FROM monthly_summaries s
+WHERE s.kind = 'EXPENSE';
+
+-- Monthly income summary view (point lookups on the rollup)
 CREATE OR REPLACE VIEW monthly_income_summary AS
 SELECT
-    u.id as user_id,
-    u.full_name,
-    YEAR(i.transaction_date) as year,
-    MONTH(i.transaction_date) as month,
-    i.source,
-    SUM(i.amount) as total_amount,
-    COUNT(*) as transaction_count
-FROM users u
-JOIN incomes i ON u.id = i.user_id
-GROUP BY u.id, u.full_name, YEAR(i.transaction_date), MONTH(i.transaction_date), i.source;
+    s.user_id,
+    s.year,
+    s.month,
+    s.category as source,
+    s.total_amount,
+    s.transaction_count
+FROM monthly_summaries s
+WHERE s.kind = 'INCOME';
 
 -- Budget vs Actual spending view
 CREATE OR REPLACE VIEW budget_vs_actual AS
@@ -102,25 +190,26 @@ SELECT
     b.year,
     b.category,
     b.budget_amount,
-    COALESCE(SUM(e.amount), 0) as actual_spending,
-    (b.budget_amount - COALESCE(SUM(e.amount), 0)) as remaining,
+    COALESCE(s.total_amount, 0) as actual_spending,
+    (b.budget_amount - COALESCE(s.total_amount, 0)) as remaining,
     CASE
-        WHEN b.budget_amount > 0 THEN (COALESCE(SUM(e.amount), 0) / b.budget_amount * 100)
+        WHEN b.budget_amount > 0 THEN (COALESCE(s.total_amount, 0) / b.budget_amount * 100)
         ELSE 0
     END as percentage_used
 FROM budgets b
-LEFT JOIN expenses e ON
-    b.user_id = e.user_id
-    AND b.category = e.category
-    AND MONTH(e.transaction_date) = b.month
-    AND YEAR(e.transaction_date) = b.year
-GROUP BY b.id, b.user_id, b.month, b.year, b.category, b.budget_amount;
+LEFT JOIN monthly_summaries s ON
+    s.user_id = b.user_id
+    AND s.kind = 'EXPENSE'
+    AND s.year = b.year
+    AND s.month = b.month
+    AND s.category = b.category;
 
 -- Stored Procedures (Optional)
 
 DELIMITER //
 
 -- Procedure to get user's financial summary for a specific month
+-- Reads the monthly_summaries rollup; the API serves the same numbers from GET /api/dashboard.
 CREATE PROCEDURE GetMonthlyFinancialSummary(
     IN p_user_id BIGINT,
     IN p_month INT,
@@ -129,21 +218,23 @@ CREATE PROCEDURE GetMonthlyFinancialSummary(
 BEGIN
     SELECT
         'Income' as type,
-        SUM(amount) as total
-    FROM incomes
+        SUM(total_amount) as total
+    FROM monthly_summaries
     WHERE user_id = p_user_id
-        AND MONTH(transaction_date) = p_month
-        AND YEAR(transaction_date) = p_year
+        AND kind = 'INCOME'
+        AND year = p_year
+        AND month = p_month
 
     UNION ALL
 
     SELECT
         'Expense' as type,
-        SUM(amount) as total
-    FROM expenses
+        SUM(total_amount) as total
+    FROM monthly_summaries
     WHERE user_id = p_user_id
-        AND MONTH(transaction_date) = p_month
-        AND YEAR(transaction_date) = p_year;
+        AND kind = 'EXPENSE'
+        AND year = p_year
+        AND month = p_month;
 END //
 
 DELIMITER ;
@@ -0,0 +1,51 @@
+package com.finance.benchmark;
+
+import com.finance.dto.BudgetView;
+import com.finance.service.BudgetService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-budget BigDecimal arithmetic of the progress endpoint, for a month with
+ * {@code budgets} categories.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BudgetProgressBenchmark {
+
+    @Param({"5", "25"})
+    private int budgets;
+
+    private final BudgetService budgetService = new BudgetService();
+    private List<BudgetView> budgetList;
+    private List<BigDecimal> spent;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        budgetList = new ArrayList<>(budgets);
+        spent = new ArrayList<>(budgets);
+        for (int i = 0; i < budgets; i++) {
+            budgetList.add(new BudgetView((long) i, "Category " + i,
+                    BigDecimal.valueOf(10000 + random.nextInt(200000), 2), 1, 2024, null));
+            spent.add(BigDecimal.valueOf(random.nextInt(250000), 2));
+        }
+    }
+
+    @Benchmark
+    public void progress(Blackhole blackhole) {
+        for (int i = 0; i < budgets; i++) {
+            blackhole.consume(budgetService.progressItem(budgetList.get(i), spent.get(i)));
+        }
+    }
+}
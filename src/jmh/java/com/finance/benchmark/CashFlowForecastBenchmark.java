@@ -0,0 +1,54 @@
+package com.finance.benchmark;
+
+import com.finance.model.Income;
+import com.finance.service.CashFlowForecastEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Day-bucket forecast for one user over {@code months}: building the per-day income and
+ * spending arrays (the cached part) and the per-request running balance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CashFlowForecastBenchmark {
+
+    @Param({"12", "60"})
+    private int months;
+
+    private LocalDate from;
+    private int days;
+    private List<Income> incomes;
+    private Map<String, BigDecimal> averageSpending;
+    private CashFlowForecastEngine.Profile profile;
+
+    @Setup
+    public void setUp() {
+        from = LocalDate.of(2026, 1, 1);
+        days = (int) ChronoUnit.DAYS.between(from, from.plusMonths(months));
+        incomes = Fixtures.incomes(20);
+        averageSpending = Map.of("Groceries", new BigDecimal("612.40"), "Rent", new BigDecimal("1450.00"),
+                "Utilities", new BigDecimal("188.15"), "Dining", new BigDecimal("240.99"));
+        profile = CashFlowForecastEngine.profile(from, days, incomes, averageSpending);
+    }
+
+    @Benchmark
+    public CashFlowForecastEngine.Profile profile() {
+        return CashFlowForecastEngine.profile(from, days, incomes, averageSpending);
+    }
+
+    @Benchmark
+    public long[] balances() {
+        return CashFlowForecastEngine.balances(123456, profile.incomeCents(), profile.spendingCents());
+    }
+}
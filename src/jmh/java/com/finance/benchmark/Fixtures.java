@@ -0,0 +1,72 @@
+package com.finance.benchmark;
+
+import com.finance.model.Expense;
+import com.finance.model.Income;
+import com.finance.security.JwtUtil;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Shared fixtures: beans wired by hand the way Spring would, and realistic-looking data.
+ */
+final class Fixtures {
+
+    static final String SECRET = "YourSecretKeyForJWTTokenGenerationShouldBeLongAndSecure123456";
+    static final String EMAIL = "bench@example.com";
+
+    private static final String[] CATEGORIES = {
+            "Groceries", "Utilities", "Entertainment", "Transportation", "Dining", "Healthcare", "Shopping", "Rent"
+    };
+
+    private Fixtures() {
+    }
+
+    static JwtUtil jwtUtil(int claimsCacheSize) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86400000L);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheSize", claimsCacheSize);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        return jwtUtil;
+    }
+
+    static List<Expense> expenses(int count) {
+        Random random = new Random(42);
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        List<Expense> expenses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Expense expense = new Expense();
+            expense.setId((long) i + 1);
+            expense.setAmount(BigDecimal.valueOf(100 + random.nextInt(50000), 2));
+            expense.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+            expense.setDescription(random.nextBoolean() ? "Card payment #" + random.nextInt(100000) : null);
+            expense.setTransactionDate(start.plusDays(random.nextInt(1500)));
+            expenses.add(expense);
+        }
+        return expenses;
+    }
+
+    static List<Income> incomes(int count) {
+        Random random = new Random(7);
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        Income.Frequency[] frequencies = Income.Frequency.values();
+        List<Income> incomes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Income income = new Income();
+            income.setId((long) i + 1);
+            income.setAmount(BigDecimal.valueOf(50000 + random.nextInt(500000), 2));
+            income.setSource(random.nextBoolean() ? "Salary" : "Freelance");
+            income.setDescription("Payment " + i);
+            income.setFrequency(frequencies[random.nextInt(frequencies.length)]);
+            income.setTransactionDate(start.plusDays(random.nextInt(1500)));
+            income.setRecurring(random.nextBoolean());
+            incomes.add(income);
+        }
+        return incomes;
+    }
+}
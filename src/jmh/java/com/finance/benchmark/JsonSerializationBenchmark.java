@@ -0,0 +1,47 @@
+package com.finance.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finance.model.Expense;
+import com.finance.model.Income;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of list responses, using an ObjectMapper configured with the same
+ * defaults Spring Boot applies. 50 and 200 match the default and maximum page sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"50", "200", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<Expense> expenses;
+    private List<Income> incomes;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        expenses = Fixtures.expenses(size);
+        incomes = Fixtures.incomes(size);
+    }
+
+    @Benchmark
+    public byte[] expenses() throws Exception {
+        return objectMapper.writeValueAsBytes(expenses);
+    }
+
+    @Benchmark
+    public byte[] incomes() throws Exception {
+        return objectMapper.writeValueAsBytes(incomes);
+    }
+}
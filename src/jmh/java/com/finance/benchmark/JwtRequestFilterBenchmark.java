@@ -0,0 +1,60 @@
+package com.finance.benchmark;
+
+import com.finance.security.AuthenticatedUser;
+import com.finance.security.JwtRequestFilter;
+import com.finance.security.JwtUtil;
+import com.finance.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end cost of authenticating one request in {@link JwtRequestFilter}, with the
+ * database-backed user lookup replaced by an in-memory stub.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtRequestFilterBenchmark {
+
+    private JwtRequestFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = Fixtures.jwtUtil(10000);
+        filter = new JwtRequestFilter(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "userDetailsService", new StubUserDetailsService());
+        authorization = "Bearer " + jwtUtil.generateToken(Fixtures.EMAIL);
+    }
+
+    @Benchmark
+    public Object doFilterInternal() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/expenses");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    static class StubUserDetailsService extends CustomUserDetailsService {
+        @Override
+        public UserDetails loadUserByUsername(String email) {
+            return new AuthenticatedUser(1L, email, "hash");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.finance.benchmark;
+
+import com.finance.security.AuthenticatedUser;
+import com.finance.security.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and validation. {@code validateCached} is the steady state for a client that
+ * reuses its bearer token; {@code validateUncached} runs with the claims cache disabled and
+ * measures full signature verification.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private JwtUtil cachingJwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private AuthenticatedUser user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachingJwtUtil = Fixtures.jwtUtil(10000);
+        uncachedJwtUtil = Fixtures.jwtUtil(0);
+        user = new AuthenticatedUser(1L, Fixtures.EMAIL, "hash");
+        token = cachingJwtUtil.generateToken(Fixtures.EMAIL);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachingJwtUtil.generateToken(Fixtures.EMAIL);
+    }
+
+    @Benchmark
+    public Boolean validateCached() {
+        return cachingJwtUtil.validateToken(token, user);
+    }
+
+    @Benchmark
+    public Boolean validateUncached() {
+        return uncachedJwtUtil.validateToken(token, user);
+    }
+}
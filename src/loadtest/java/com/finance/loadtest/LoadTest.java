@@ -0,0 +1,333 @@
+package com.finance.loadtest;
+
+import com.finance.FinanceTrackerApplication;
+import com.finance.service.SyntheticDataGenerator;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Replays a mixed workload (login, list, budget progress, create) and reports throughput and
+ * latency percentiles per operation. By default it starts the app in-process on the local H2
+ * profile and seeds it with {@link SyntheticDataGenerator}; set {@code loadtest.url} to target an
+ * app that is already running and seeded.
+ * <p>
+ * Requests are issued at a fixed arrival rate ({@code loadtest.rate}) spread over the worker
+ * threads, and each latency is measured from the time the request was scheduled to go out, not
+ * from when a worker got round to sending it. A closed loop that waits for each response before
+ * sending the next would send fewer requests exactly while the server is slow and so understate
+ * the tail (coordinated omission). The rate must stay below what {@code loadtest.threads} workers
+ * can sustain; the report prints the achieved rate next to the target.
+ * <p>
+ * Runs are reproducible: the dataset and each worker's choice of users and operations derive from
+ * {@code loadtest.seed}. Settings are system properties, see {@link #main}.
+ */
+public final class LoadTest {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    private static final String[] CATEGORIES = {"Groceries", "Dining", "Transportation", "Shopping", "Entertainment"};
+
+    enum Operation {
+        LOGIN(5), LIST(45), PROGRESS(30), CREATE(20);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+
+        static Operation pick(Random random) {
+            int r = random.nextInt(100);
+            for (Operation operation : values()) {
+                r -= operation.weight;
+                if (r < 0) {
+                    return operation;
+                }
+            }
+            return LIST;
+        }
+    }
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final String baseUrl;
+    private final int users;
+    private final String password;
+
+    // Wall-clock span of the measured phase; longer than its nominal duration when the app fell behind.
+    private double measuredSeconds;
+
+    private LoadTest(String baseUrl, int users, String password) {
+        this.baseUrl = baseUrl;
+        this.users = users;
+        this.password = password;
+    }
+
+    /**
+     * System properties (defaults in brackets): loadtest.users [500], loadtest.expenses-per-user [200],
+     * loadtest.threads [16], loadtest.rate [200 requests/s], loadtest.warmup-seconds [10],
+     * loadtest.duration-seconds [60], loadtest.seed [42], loadtest.profiles [local; e.g.
+     * local,virtual], loadtest.url [start the app in-process], loadtest.result
+     * [target/loadtest-result.json].
+     */
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("loadtest.users", 500);
+        int expensesPerUser = Integer.getInteger("loadtest.expenses-per-user", 200);
+        int threads = Integer.getInteger("loadtest.threads", 16);
+        int rate = Integer.getInteger("loadtest.rate", 200);
+        String profiles = System.getProperty("loadtest.profiles", "local");
+        int warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 10);
+        int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 60);
+        long seed = Long.getLong("loadtest.seed", 42L);
+        String url = System.getProperty("loadtest.url");
+        Path result = Path.of(System.getProperty("loadtest.result", "target/loadtest-result.json"));
+        String password = "password";
+
+        ConfigurableApplicationContext app = null;
+        if (url == null) {
+            System.out.printf("Starting app (profiles %s) and seeding %d users x ~%d expenses%n",
+                    profiles, users, expensesPerUser);
+            // Arguments, unlike default properties, win over application.properties (server.port=8081,
+            // DEBUG logging).
+            app = new SpringApplicationBuilder(FinanceTrackerApplication.class)
+                    .profiles(profiles.split(","))
+                    .run("--server.port=0",
+                            "--finance.seed.users=" + users,
+                            "--finance.seed.expenses-per-user=" + expensesPerUser,
+                            "--finance.seed.random-seed=" + seed,
+                            "--finance.seed.password=" + password,
+                            "--logging.level.com.finance=INFO",
+                            "--logging.level.org.springframework.security=INFO");
+            url = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+        }
+
+        try {
+            LoadTest loadTest = new LoadTest(url, users, password);
+            System.out.printf("Running %d req/s on %d threads against %s: %ds warm-up, %ds measured%n",
+                    rate, threads, url, warmupSeconds, durationSeconds);
+            List<Recorder> recorders = loadTest.run(threads, rate, seed, warmupSeconds, durationSeconds);
+            String report = report(recorders, rate, loadTest.measuredSeconds);
+            System.out.print(report);
+            writeJson(result, recorders, durationSeconds, loadTest.measuredSeconds, threads, rate, users, seed);
+            System.out.println("Results written to " + result);
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+        }
+    }
+
+    private List<Recorder> run(int threads, int rate, long seed, int warmupSeconds, int durationSeconds)
+            throws InterruptedException {
+        long startAt = System.nanoTime();
+        long measureFrom = startAt + Duration.ofSeconds(warmupSeconds).toNanos();
+        long until = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+        // Each worker sends rate / threads requests per second, staggered so arrivals spread evenly.
+        long interval = Duration.ofSeconds(threads).toNanos() / rate;
+
+        List<Recorder> recorders = new ArrayList<>();
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Recorder recorder = new Recorder();
+            recorders.add(recorder);
+            Random random = new Random(seed + i);
+            long firstAt = startAt + interval * i / threads;
+            Thread worker = new Thread(() -> work(random, recorder, firstAt, interval, measureFrom, until), "loadtest-" + i);
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        measuredSeconds = (System.nanoTime() - measureFrom) / 1e9;
+        return recorders;
+    }
+
+    private void work(Random random, Recorder recorder, long firstAt, long interval, long measureFrom, long until) {
+        String token = null;
+        Operation operation = Operation.LOGIN;
+        for (long start = firstAt; start < until; start += interval) {
+            if (token == null) {
+                operation = Operation.LOGIN;
+            }
+            // Behind schedule the request goes out at once, and the wait counts towards its latency.
+            long wait = start - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            HttpResponse<String> response;
+            try {
+                response = client.send(request(operation, random, token), HttpResponse.BodyHandlers.ofString());
+            } catch (IOException e) {
+                response = null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long elapsed = System.nanoTime() - start;
+            boolean ok = response != null && response.statusCode() == 200;
+            if (start >= measureFrom) {
+                recorder.record(operation, elapsed, ok);
+            }
+            if (operation == Operation.LOGIN) {
+                Matcher matcher = ok ? TOKEN.matcher(response.body()) : null;
+                token = matcher != null && matcher.find() ? matcher.group(1) : null;
+            }
+            operation = Operation.pick(random);
+        }
+    }
+
+    private HttpRequest request(Operation operation, Random random, String token) {
+        LocalDate today = LocalDate.now();
+        return switch (operation) {
+            case LOGIN -> post("/api/auth/login", null, String.format(
+                    "{\"email\":\"%s\",\"password\":\"%s\"}",
+                    SyntheticDataGenerator.email(random.nextInt(users)), password));
+            case LIST -> get("/api/expenses?limit=50", token);
+            case PROGRESS -> get("/api/budgets/progress?month=" + today.getMonthValue() + "&year=" + today.getYear(), token);
+            case CREATE -> post("/api/expenses", token, String.format(Locale.ROOT,
+                    "{\"amount\":%.2f,\"category\":\"%s\",\"description\":\"Load test\",\"transactionDate\":\"%s\"}",
+                    1 + random.nextInt(20000) / 100.0, CATEGORIES[random.nextInt(CATEGORIES.length)], today));
+        };
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String token, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private static String report(List<Recorder> recorders, int rate, double measuredSeconds) {
+        StringBuilder sb = new StringBuilder();
+        long total = recorders.stream().mapToLong(Recorder::total).sum();
+        sb.append(String.format(Locale.ROOT, "target %d req/s, achieved %.1f req/s (%d requests in %.1fs)%n",
+                rate, total / measuredSeconds, total, measuredSeconds));
+        sb.append(String.format("%-10s %10s %8s %10s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (Operation operation : Operation.values()) {
+            long[] latencies = merged(recorders, operation);
+            long errors = recorders.stream().mapToLong(r -> r.errors[operation.ordinal()]).sum();
+            sb.append(String.format(Locale.ROOT, "%-10s %10d %8d %10.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    operation.name().toLowerCase(Locale.ROOT), latencies.length, errors,
+                    latencies.length / measuredSeconds,
+                    millis(percentile(latencies, 50)), millis(percentile(latencies, 90)),
+                    millis(percentile(latencies, 99)), millis(percentile(latencies, 100))));
+        }
+        return sb.toString();
+    }
+
+    private static void writeJson(Path path, List<Recorder> recorders, int durationSeconds, double measuredSeconds,
+                                  int threads, int rate, int users, long seed) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append(String.format(Locale.ROOT, "{\"threads\":%d,\"rate\":%d,\"users\":%d,\"seed\":%d,\"durationSeconds\":%d," +
+                "\"measuredSeconds\":%.2f,\"operations\":{", threads, rate, users, seed, durationSeconds, measuredSeconds));
+        Operation[] operations = Operation.values();
+        for (int i = 0; i < operations.length; i++) {
+            Operation operation = operations[i];
+            long[] latencies = merged(recorders, operation);
+            long errors = recorders.stream().mapToLong(r -> r.errors[operation.ordinal()]).sum();
+            json.append(String.format(Locale.ROOT,
+                    "%s\"%s\":{\"requests\":%d,\"errors\":%d,\"throughput\":%.2f,\"p50Ms\":%.2f,\"p90Ms\":%.2f," +
+                    "\"p99Ms\":%.2f,\"maxMs\":%.2f}",
+                    i == 0 ? "" : ",", operation.name().toLowerCase(Locale.ROOT), latencies.length, errors,
+                    latencies.length / measuredSeconds, millis(percentile(latencies, 50)),
+                    millis(percentile(latencies, 90)), millis(percentile(latencies, 99)),
+                    millis(percentile(latencies, 100))));
+        }
+        json.append("}}\n");
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(path, json.toString(), StandardCharsets.UTF_8);
+    }
+
+    private static long[] merged(List<Recorder> recorders, Operation operation) {
+        int total = 0;
+        for (Recorder recorder : recorders) {
+            total += recorder.counts[operation.ordinal()];
+        }
+        long[] all = new long[total];
+        int offset = 0;
+        for (Recorder recorder : recorders) {
+            int count = recorder.counts[operation.ordinal()];
+            System.arraycopy(recorder.latencies[operation.ordinal()], 0, all, offset, count);
+            offset += count;
+        }
+        Arrays.sort(all);
+        return all;
+    }
+
+    // Nearest-rank percentile of sorted values.
+    private static long percentile(long[] sorted, int percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Latencies of successful requests per operation, owned by one worker thread.
+     */
+    private static final class Recorder {
+        private final long[][] latencies = new long[Operation.values().length][1024];
+        private final int[] counts = new int[Operation.values().length];
+        private final long[] errors = new long[Operation.values().length];
+
+        void record(Operation operation, long nanos, boolean ok) {
+            int index = operation.ordinal();
+            if (!ok) {
+                errors[index]++;
+                return;
+            }
+            if (counts[index] == latencies[index].length) {
+                latencies[index] = Arrays.copyOf(latencies[index], counts[index] * 2);
+            }
+            latencies[index][counts[index]++] = nanos;
+        }
+
+        long total() {
+            long total = 0;
+            for (int i = 0; i < counts.length; i++) {
+                total += counts[i] + errors[i];
+            }
+            return total;
+        }
+    }
+}
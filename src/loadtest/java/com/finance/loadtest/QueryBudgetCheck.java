@@ -0,0 +1,156 @@
+package com.finance.loadtest;
+
+import com.finance.FinanceTrackerApplication;
+import com.finance.config.QueryCountHeaderAdvice;
+import com.finance.service.SyntheticDataGenerator;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Asserts an upper bound on the SQL statements each endpoint runs, as reported by the
+ * {@code X-Query-Count} response header. Every endpoint is called twice and the higher count is
+ * checked; endpoints share caches, so they run in a fixed order. Exits with status 1 when an
+ * endpoint goes over its budget, which catches an N+1 loop before it ships.
+ * <p>
+ * Starts the app in-process on the local H2 profile with a small seeded dataset unless
+ * {@code loadtest.url} points at a running, seeded app with the header enabled.
+ */
+public final class QueryBudgetCheck {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    private record Endpoint(String method, String path, String body, int maxStatements) {
+    }
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final String baseUrl;
+
+    private QueryBudgetCheck(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    // Includes the JWT user lookup of authenticated requests.
+    private static List<Endpoint> endpoints(LocalDate today, String password) {
+        int month = today.getMonthValue();
+        int year = today.getYear();
+        return List.of(
+                new Endpoint("POST", "/api/auth/login", String.format("{\"email\":\"%s\",\"password\":\"%s\"}",
+                        SyntheticDataGenerator.email(1), password), 3),
+                new Endpoint("GET", "/api/expenses?limit=50", null, 4),
+                new Endpoint("GET", "/api/expenses/category/Groceries?startDate=" + today.withDayOfMonth(1), null, 3),
+                new Endpoint("GET", "/api/expenses/date-range?startDate=" + today.minusMonths(1) + "&endDate=" + today, null, 3),
+                new Endpoint("GET", "/api/incomes?limit=50", null, 4),
+                new Endpoint("GET", "/api/budgets", null, 3),
+                new Endpoint("GET", "/api/budgets/month/" + month + "/year/" + year, null, 3),
+                new Endpoint("GET", "/api/budgets/progress?month=" + month + "&year=" + year, null, 4),
+                new Endpoint("GET", "/api/summaries/month/" + month + "/year/" + year, null, 4),
+                new Endpoint("GET", "/api/dashboard", null, 8),
+                new Endpoint("GET", "/api/forecast", null, 6),
+                new Endpoint("GET", "/api/analytics/series", null, 4),
+                new Endpoint("GET", "/api/alerts", null, 3),
+                new Endpoint("POST", "/api/expenses", String.format(Locale.ROOT,
+                        "{\"amount\":12.50,\"category\":\"Groceries\",\"description\":\"Query budget\",\"transactionDate\":\"%s\"}",
+                        today), 6));
+    }
+
+    /**
+     * System properties: loadtest.seed [42], loadtest.url [start the app in-process].
+     */
+    public static void main(String[] args) throws Exception {
+        long seed = Long.getLong("loadtest.seed", 42L);
+        String url = System.getProperty("loadtest.url");
+        String password = "password";
+
+        ConfigurableApplicationContext app = null;
+        if (url == null) {
+            // Arguments, unlike default properties, win over application.properties (server.port=8081,
+            // DEBUG logging).
+            app = new SpringApplicationBuilder(FinanceTrackerApplication.class)
+                    .profiles("local")
+                    .run("--server.port=0",
+                            "--finance.query-count.header=true",
+                            "--finance.seed.users=5",
+                            "--finance.seed.expenses-per-user=200",
+                            "--finance.seed.random-seed=" + seed,
+                            "--finance.seed.password=" + password,
+                            "--logging.level.com.finance=INFO",
+                            "--logging.level.org.springframework.security=INFO");
+            url = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+        }
+
+        int failures;
+        try {
+            failures = new QueryBudgetCheck(url).run(password);
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+        }
+        if (failures > 0) {
+            System.out.println(failures + " endpoint(s) over their query budget");
+            System.exit(1);
+        }
+        System.out.println("All endpoints within their query budget");
+    }
+
+    private int run(String password) throws IOException, InterruptedException {
+        HttpResponse<String> login = client.send(request("POST", "/api/auth/login", null, String.format(
+                "{\"email\":\"%s\",\"password\":\"%s\"}", SyntheticDataGenerator.email(0), password)),
+                HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = TOKEN.matcher(login.body());
+        if (login.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("Login failed: " + login.statusCode() + " " + login.body());
+        }
+        String token = matcher.group(1);
+
+        int failures = 0;
+        System.out.printf("%-70s %6s %6s%n", "endpoint", "max", "budget");
+        for (Endpoint endpoint : endpoints(LocalDate.now(), password)) {
+            int statements = Math.max(statements(endpoint, token), statements(endpoint, token));
+            boolean over = statements > endpoint.maxStatements();
+            if (over) {
+                failures++;
+            }
+            System.out.printf("%-70s %6d %6d%s%n", endpoint.method() + " " + endpoint.path(), statements,
+                    endpoint.maxStatements(), over ? "  OVER" : "");
+        }
+        return failures;
+    }
+
+    private int statements(Endpoint endpoint, String token) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request(endpoint.method(), endpoint.path(), token, endpoint.body()),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(endpoint.path() + " returned " + response.statusCode() + ": " + response.body());
+        }
+        return response.headers().firstValue(QueryCountHeaderAdvice.COUNT_HEADER)
+                .map(Integer::parseInt)
+                .orElseThrow(() -> new IllegalStateException(endpoint.path() + " has no "
+                        + QueryCountHeaderAdvice.COUNT_HEADER + " header; is finance.query-count.header on?"));
+    }
+
+    private HttpRequest request(String method, String path, String token, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .method(method, json == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(json));
+        if (json != null) {
+            builder.header("Content-Type", "application/json");
+        }
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.finance.config;
+
+import com.finance.service.ArchiveService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the archive mover on {@code finance.archive.cron} (03:30 every night by default). Turn it
+ * off with {@code finance.archive.enabled=false}, e.g. on all but one instance.
+ */
+@Component
+@ConditionalOnProperty(name = "finance.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class ArchiveScheduler {
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Scheduled(cron = "${finance.archive.cron:0 30 3 * * *}")
+    public void archiveOldTransactions() {
+        archiveService.archiveOldTransactions();
+    }
+}
@@ -0,0 +1,13 @@
+package com.finance.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables Spring's cache abstraction; the Caffeine-backed caches and their size/expiry are
+ * declared in application.properties ({@code spring.cache.*}).
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
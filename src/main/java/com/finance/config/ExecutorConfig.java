@@ -0,0 +1,147 @@
+package com.finance.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Dedicated, bounded executors. Each pool has a fixed size and a finite queue so a burst
+ * cannot grow threads without limit or starve the request threads that feed it.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class ExecutorConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutorConfig.class);
+
+    /**
+     * Spring Boot's application executor, which MVC async requests and streaming exports run on.
+     * Boot only creates it when no other {@code Executor} bean exists, so the pools below would
+     * otherwise leave MVC on an unbounded {@code SimpleAsyncTaskExecutor}. Built from Boot's
+     * builder, so {@code spring.task.execution.*} still applies.
+     */
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * The same executor in the virtual profile on Java 21+: a virtual thread per task.
+     */
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor applicationTaskExecutorVirtualThreads(SimpleAsyncTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor dashboardExecutor(@Value("${finance.dashboard.pool-size:16}") int poolSize,
+                                                    @Value("${finance.dashboard.queue-capacity:256}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("dashboard-");
+        // Carry the caller's read-your-writes pin and SQL counter to the pool thread.
+        executor.setTaskDecorator(task -> {
+            boolean primaryForced = ReplicaRoutingDataSource.isPrimaryForced();
+            QueryCounter.Stats queryStats = QueryCounter.current();
+            return () -> {
+                if (primaryForced) {
+                    ReplicaRoutingDataSource.forcePrimary();
+                }
+                QueryCounter.attach(queryStats);
+                try {
+                    task.run();
+                } finally {
+                    ReplicaRoutingDataSource.clear();
+                    QueryCounter.clear();
+                }
+            };
+        });
+        return executor;
+    }
+
+    /**
+     * Budget alert evaluation. When the queue is full the event is dropped and counted in
+     * budget.alerts.dropped, never evaluated on the writing thread: the next write to the same
+     * category re-checks the budget against its running total, so a dropped event only delays
+     * an alert.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor alertExecutor(@Value("${finance.alerts.pool-size:2}") int poolSize,
+                                                @Value("${finance.alerts.queue-capacity:10000}") int queueCapacity,
+                                                MeterRegistry meterRegistry) {
+        Counter dropped = Counter.builder("budget.alerts.dropped")
+                .description("Spending changes not checked against their budget because the alert queue was full")
+                .register(meterRegistry);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("alerts-");
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            dropped.increment();
+            log.warn("Alert queue is full; dropped a budget evaluation, the next spending change in that "
+                    + "category re-checks it ({} dropped so far)", (long) dropped.count());
+        });
+        return executor;
+    }
+
+    /**
+     * Password hashing for login and registration, kept off the request threads. Sized to the
+     * CPU count because bcrypt is pure CPU work; a full queue rejects immediately instead of
+     * letting a login storm pile up behind it. Queue depth and active threads are published as
+     * executor.* metrics (name="passwordHash").
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${finance.security.hash-pool-size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int poolSize,
+            @Value("${finance.security.hash-queue-capacity:100}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        Counter rejected = Counter.builder("password.hash.rejected")
+                .description("Login and registration requests turned away because the hashing queue was full")
+                .register(meterRegistry);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("bcrypt-");
+        executor.setTaskDecorator(task -> {
+            QueryCounter.Stats queryStats = QueryCounter.current();
+            return () -> {
+                QueryCounter.attach(queryStats);
+                try {
+                    task.run();
+                } finally {
+                    QueryCounter.clear();
+                }
+            };
+        });
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            throw new RejectedExecutionException("Password hashing queue is full");
+        });
+        return executor;
+    }
+}
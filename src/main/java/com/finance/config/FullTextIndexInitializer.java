@@ -0,0 +1,83 @@
+package com.finance.config;
+
+import com.finance.model.SearchTokens;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Prepares the MySQL FULLTEXT indexes used by transaction search. Rows written before
+ * {@code search_tokens} existed get their {@link SearchTokens} filled in, in chunks, and the
+ * index over them is created when missing. Hibernate's schema update cannot declare FULLTEXT
+ * indexes, so tables it created (or that predate database-schema.sql) would otherwise fail every
+ * search query. The old unscoped indexes on the text columns are dropped.
+ */
+@Component
+@ConditionalOnProperty(name = "finance.search.full-text", havingValue = "true", matchIfMissing = true)
+public class FullTextIndexInitializer implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(FullTextIndexInitializer.class);
+
+    private static final int BACKFILL_CHUNK = 1000;
+
+    private static final String INDEX_EXISTS =
+            "SELECT COUNT(*) FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        prepare("expenses", "category", "ft_expense_search", "ft_expense_text");
+        prepare("incomes", "source", "ft_income_search", "ft_income_text");
+        prepare("expenses_archive", "category", "ft_expense_archive_search", "ft_expense_archive_text");
+        prepare("incomes_archive", "source", "ft_income_archive_search", "ft_income_archive_text");
+    }
+
+    private void prepare(String table, String labelColumn, String index, String legacyIndex) {
+        backfill(table, labelColumn);
+        if (!indexExists(table, index)) {
+            long start = System.currentTimeMillis();
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD FULLTEXT INDEX " + index + " (search_tokens)");
+            log.info("Created full-text index {} on {} in {} ms", index, table, System.currentTimeMillis() - start);
+        }
+        if (indexExists(table, legacyIndex)) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " DROP INDEX " + legacyIndex);
+            log.info("Dropped unscoped full-text index {} on {}", legacyIndex, table);
+        }
+    }
+
+    // Each chunk commits on its own, so a large table never holds one long transaction.
+    private void backfill(String table, String labelColumn) {
+        String select = "SELECT id, user_id, description, " + labelColumn + " FROM " + table
+                + " WHERE search_tokens IS NULL LIMIT " + BACKFILL_CHUNK;
+        String update = "UPDATE " + table + " SET search_tokens = ? WHERE id = ?";
+        long filled = 0;
+        List<Object[]> rows;
+        do {
+            rows = jdbcTemplate.query(select, (rs, rowNum) -> new Object[]{
+                    SearchTokens.of(rs.getLong("user_id"), rs.getString("description"), rs.getString(labelColumn)),
+                    rs.getLong("id")});
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(update, rows);
+                filled += rows.size();
+            }
+        } while (rows.size() == BACKFILL_CHUNK);
+        if (filled > 0) {
+            log.info("Filled search tokens for {} rows of {}", filled, table);
+        }
+    }
+
+    private boolean indexExists(String table, String index) {
+        Integer count = jdbcTemplate.queryForObject(INDEX_EXISTS, Integer.class, table, index);
+        return count != null && count > 0;
+    }
+}
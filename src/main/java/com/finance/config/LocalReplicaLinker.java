@@ -0,0 +1,78 @@
+package com.finance.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stands in for replication in the local profile. Each H2 replica database gets a
+ * {@code READONLY} linked table for every table Hibernate created in the primary database, so
+ * the replica pool serves the primary's data from a separate database: reads routed to it see
+ * every committed write, and a write routed to it by mistake fails instead of quietly landing
+ * on the primary.
+ */
+@Component
+@Profile("local")
+@DependsOn("entityManagerFactory")
+public class LocalReplicaLinker {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalReplicaLinker.class);
+
+    private static final String SCHEMA = "public";
+
+    @Autowired
+    private DataSourceProperties primaryProperties;
+
+    @Autowired(required = false)
+    private ReplicaDataSourceProperties replicaProperties;
+
+    @PostConstruct
+    void linkTables() throws SQLException {
+        if (replicaProperties == null || replicaProperties.getReplicas().isEmpty()) {
+            return;
+        }
+        List<String> tables = primaryTables();
+        for (ReplicaDataSourceProperties.Replica replica : replicaProperties.getReplicas()) {
+            try (Connection connection = DriverManager.getConnection(replica.getUrl(), replica.getUsername(), replica.getPassword());
+                 Statement statement = connection.createStatement()) {
+                for (String table : tables) {
+                    statement.execute("DROP TABLE IF EXISTS \"" + table + "\"");
+                    statement.execute(String.format("CREATE LINKED TABLE \"%s\"('%s', '%s', '%s', '%s', '%s', '%s') READONLY",
+                            table, primaryProperties.determineDriverClassName(), quote(primaryProperties.determineUrl()),
+                            quote(primaryProperties.determineUsername()), quote(primaryProperties.determinePassword()),
+                            SCHEMA, table));
+                }
+            }
+            log.info("Linked {} primary tables into replica {}", tables.size(), replica.getUrl());
+        }
+    }
+
+    private List<String> primaryTables() throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection(primaryProperties.determineUrl(),
+                primaryProperties.determineUsername(), primaryProperties.determinePassword());
+             ResultSet rs = connection.getMetaData().getTables(null, SCHEMA, "%", new String[]{"TABLE"})) {
+            while (rs.next()) {
+                tables.add(rs.getString("TABLE_NAME"));
+            }
+        }
+        return tables;
+    }
+
+    private static String quote(String value) {
+        return value == null ? "" : value.replace("'", "''");
+    }
+}
@@ -0,0 +1,54 @@
+package com.finance.config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Micrometer wiring beyond what Spring Boot configures on its own. HikariCP pool gauges,
+ * JVM/Tomcat meters and Hibernate statistics ({@code hibernate.*}, on because
+ * {@code hibernate.generate_statistics} is set) come from auto-configuration.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Adds a {@code handler} tag (e.g. {@code ExpenseController.getAllExpenses}) to
+     * {@code http.server.requests}, so latency histograms can be broken down per controller method.
+     */
+    @Bean
+    public DefaultServerRequestObservationConvention handlerTaggingObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                return super.getLowCardinalityKeyValues(context).and(handler(context));
+            }
+        };
+    }
+
+    /**
+     * Feeds the per-request SQL counter behind {@code request.sql.*} (see {@link QueryCountFilter}).
+     */
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingHibernateProperties() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryTimingSessionListener.class.getName());
+        };
+    }
+
+    private static KeyValue handler(ServerRequestObservationContext context) {
+        Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod method) {
+            return KeyValue.of("handler", method.getBeanType().getSimpleName() + "." + method.getMethod().getName());
+        }
+        return KeyValue.of("handler", "none");
+    }
+}
@@ -0,0 +1,31 @@
+package com.finance.config;
+
+import com.finance.service.MonthlySummaryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds every user's monthly rollup at startup when launched with
+ * {@code --finance.summaries.rebuild-on-startup=true}, to recover from drift.
+ */
+@Component
+@ConditionalOnProperty(name = "finance.summaries.rebuild-on-startup", havingValue = "true")
+public class MonthlySummaryRebuildRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(MonthlySummaryRebuildRunner.class);
+
+    @Autowired
+    private MonthlySummaryService monthlySummaryService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        int users = monthlySummaryService.rebuildAll();
+        log.info("Rebuilt monthly summaries for {} users in {} ms", users, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,119 @@
+package com.finance.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements and JDBC time of each API request, including the JWT user lookup in
+ * the security chain. Both are published per controller method as {@code request.sql.statements}
+ * and {@code request.sql.time}. A request that runs more than
+ * {@code finance.query-count.log-threshold} statements is logged with the statements it
+ * repeated, which is how an N+1 loop shows up.
+ * <p>
+ * An async request (login and registration hash passwords on a pool) keeps its stats in a
+ * request attribute and is recorded once its async dispatch has written the response.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    // Repeated statements listed in the log line.
+    private static final int MAX_LOGGED = 5;
+
+    // Also read by tests to assert a request's statement count.
+    static final String STATS_ATTRIBUTE = QueryCountFilter.class.getName() + ".stats";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${finance.query-count.log-threshold:20}")
+    private int logThreshold;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCounter.Stats stats = (QueryCounter.Stats) request.getAttribute(STATS_ATTRIBUTE);
+        if (stats == null) {
+            stats = QueryCounter.start();
+            request.setAttribute(STATS_ATTRIBUTE, stats);
+        } else {
+            QueryCounter.attach(stats);
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryCounter.clear();
+            if (!request.isAsyncStarted()) {
+                record(request, stats);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryCounter.Stats stats) {
+        String handler = handler(request);
+        DistributionSummary.builder("request.sql.statements")
+                .description("SQL statements run by one request")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(stats.statements());
+        Timer.builder("request.sql.time")
+                .description("Time one request spent executing SQL")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(stats.jdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.statements() > logThreshold) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            StringBuilder message = new StringBuilder();
+            message.append(request.getMethod()).append(' ')
+                    .append(pattern != null ? pattern : request.getRequestURI())
+                    .append(" (").append(handler).append(") ran ").append(stats.statements())
+                    .append(" SQL statements in ").append(QueryCounter.millis(stats.jdbcNanos()))
+                    .append(" ms, threshold ").append(logThreshold);
+            List<QueryCounter.Repeat> repeats = stats.repeats();
+            for (QueryCounter.Repeat repeat : repeats.subList(0, Math.min(MAX_LOGGED, repeats.size()))) {
+                message.append("\n  ").append(repeat.count()).append("x ").append(repeat.statement());
+            }
+            log.warn(message.toString());
+        }
+    }
+
+    private static String handler(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        }
+        return "none";
+    }
+}
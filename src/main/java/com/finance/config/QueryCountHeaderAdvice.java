@@ -0,0 +1,40 @@
+package com.finance.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds {@code X-Query-Count} and {@code X-Query-Time-Ms} to API responses, so a client or a
+ * reviewer can see what an endpoint costs. The headers are written just before the body,
+ * after the controller's queries have run. Off in the prod profile.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "finance.query-count.header", havingValue = "true")
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String COUNT_HEADER = "X-Query-Count";
+    public static final String TIME_HEADER = "X-Query-Time-Ms";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        QueryCounter.Stats stats = QueryCounter.current();
+        if (stats != null) {
+            response.getHeaders().set(COUNT_HEADER, Integer.toString(stats.statements()));
+            response.getHeaders().set(TIME_HEADER, QueryCounter.millis(stats.jdbcNanos()));
+        }
+        return body;
+    }
+}
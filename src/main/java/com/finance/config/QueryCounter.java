@@ -0,0 +1,123 @@
+package com.finance.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * SQL statements and JDBC time of the current request. {@link QueryCountFilter} opens a
+ * {@link Stats} per request; Hibernate's statement inspector and session listener add to it.
+ * Pool threads that work for a request (dashboard queries, password hashing) share the request's
+ * stats, so every counter is thread-safe. Queries issued through JdbcTemplate bypass Hibernate and are
+ * not counted.
+ */
+public final class QueryCounter {
+
+    // Distinct statements remembered per request; the count keeps going past it.
+    private static final int MAX_STATEMENTS = 200;
+    private static final int MAX_STATEMENT_LENGTH = 500;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final ThreadLocal<Stats> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static Stats start() {
+        Stats stats = new Stats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static Stats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Makes {@code stats} (possibly null) the current thread's; used to carry a request's stats
+     * to a pool thread.
+     */
+    public static void attach(Stats stats) {
+        if (stats != null) {
+            CURRENT.set(stats);
+        }
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Strips what varies between executions of the same statement (literals, IN-list lengths,
+     * layout), so repeats of one query in a loop collapse into a single key.
+     */
+    public static String normalize(String sql) {
+        String normalized = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("in (?)");
+        return normalized.length() > MAX_STATEMENT_LENGTH
+                ? normalized.substring(0, MAX_STATEMENT_LENGTH) + "..."
+                : normalized;
+    }
+
+    public static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+
+    public record Repeat(String statement, int count) {
+    }
+
+    public static final class Stats {
+        private final AtomicInteger statements = new AtomicInteger();
+        private final LongAdder jdbcNanos = new LongAdder();
+        private final Map<String, AtomicInteger> byStatement = new ConcurrentHashMap<>();
+
+        void statement(String sql) {
+            statements.incrementAndGet();
+            String key = normalize(sql);
+            AtomicInteger count = byStatement.get(key);
+            if (count == null && byStatement.size() < MAX_STATEMENTS) {
+                count = byStatement.computeIfAbsent(key, k -> new AtomicInteger());
+            }
+            if (count != null) {
+                count.incrementAndGet();
+            }
+        }
+
+        void jdbcTime(long nanos) {
+            jdbcNanos.add(nanos);
+        }
+
+        public int statements() {
+            return statements.get();
+        }
+
+        public long jdbcNanos() {
+            return jdbcNanos.sum();
+        }
+
+        /**
+         * Statements that ran more than once, most frequent first.
+         */
+        public List<Repeat> repeats() {
+            List<Repeat> repeats = new ArrayList<>();
+            byStatement.forEach((statement, count) -> {
+                if (count.get() > 1) {
+                    repeats.add(new Repeat(statement, count.get()));
+                }
+            });
+            repeats.sort((a, b) -> Integer.compare(b.count(), a.count()));
+            return repeats;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.finance.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares against the current request's {@link QueryCounter.Stats}.
+ * The SQL is passed through unchanged.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.Stats stats = QueryCounter.current();
+        if (stats != null) {
+            stats.statement(sql);
+        }
+        return sql;
+    }
+}
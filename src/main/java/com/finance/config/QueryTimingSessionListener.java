@@ -0,0 +1,40 @@
+package com.finance.config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds the time spent executing JDBC statements and batches to the current request's
+ * {@link QueryCounter.Stats}. Hibernate creates one instance per session, and a session is used
+ * by one thread at a time, so the start time needs no synchronization.
+ */
+public class QueryTimingSessionListener implements SessionEventListener {
+
+    private long start;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        start = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        start = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        QueryCounter.Stats stats = QueryCounter.current();
+        if (stats != null) {
+            stats.jdbcTime(System.nanoTime() - start);
+        }
+    }
+}
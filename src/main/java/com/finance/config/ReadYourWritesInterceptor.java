@@ -0,0 +1,49 @@
+package com.finance.config;
+
+import com.finance.security.AuthenticatedUser;
+import com.finance.service.DataVersionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Pins a request to the primary database when its user wrote within the last
+ * {@code finance.datasource.read-your-writes-ms}, so a list fetched right after a create
+ * never comes from a replica that has not caught up. The user's data version is read once
+ * here and left in a request attribute for {@link ConditionalGetInterceptor}.
+ */
+@Component
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    static final String VERSION_ATTRIBUTE = ReadYourWritesInterceptor.class.getName() + ".version";
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Value("${finance.datasource.read-your-writes-ms:5000}")
+    private long readYourWritesMs;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            DataVersionService.Version version = dataVersionService.current(principal.getId());
+            request.setAttribute(VERSION_ATTRIBUTE, version);
+            if (version.wroteWithin(readYourWritesMs)) {
+                ReplicaRoutingDataSource.forcePrimary();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        ReplicaRoutingDataSource.clear();
+    }
+}
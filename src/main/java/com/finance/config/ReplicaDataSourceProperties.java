@@ -0,0 +1,28 @@
+package com.finance.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas under {@code finance.datasource.replicas[n].*}. Routing is only enabled when
+ * at least one replica url is configured.
+ */
+@Data
+@ConfigurationProperties(prefix = "finance.datasource")
+public class ReplicaDataSourceProperties {
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+        // Short so an unreachable replica falls back to the primary quickly.
+        private long connectionTimeoutMs = 1000;
+    }
+}
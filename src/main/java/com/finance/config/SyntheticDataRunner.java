@@ -0,0 +1,58 @@
+package com.finance.config;
+
+import com.finance.service.SyntheticDataGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Generates a synthetic dataset at startup when launched with {@code --finance.seed.users=N}.
+ * Skipped if the database already holds the seeded users, so restarts do not duplicate data.
+ */
+@Component
+@ConditionalOnProperty(name = "finance.seed.users")
+public class SyntheticDataRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataRunner.class);
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Value("${finance.seed.users}")
+    private int users;
+
+    @Value("${finance.seed.expenses-per-user:200}")
+    private int expensesPerUser;
+
+    @Value("${finance.seed.months:24}")
+    private int months;
+
+    @Value("${finance.seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${finance.seed.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${finance.seed.password:password}")
+    private String password;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (generator.alreadySeeded()) {
+            log.info("Synthetic data already present, skipping generation");
+            return;
+        }
+        long start = System.currentTimeMillis();
+        SyntheticDataGenerator.Result result = generator.generate(new SyntheticDataGenerator.Volumes(
+                users, expensesPerUser, months, randomSeed, batchSize, password));
+        long elapsed = Math.max(1, System.currentTimeMillis() - start);
+        log.info("Generated {} users, {} expenses, {} incomes, {} budgets in {} ms ({} expenses/s)",
+                result.users(), result.expenses(), result.incomes(), result.budgets(), elapsed,
+                result.expenses() * 1000 / elapsed);
+    }
+}
@@ -0,0 +1,29 @@
+package com.finance.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spring Boot silently ignores {@code spring.threads.virtual.enabled} below Java 21; make the
+ * fallback to platform threads visible.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsCheck {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadsCheck.class);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkRuntime() {
+        int feature = Runtime.version().feature();
+        if (feature < 21) {
+            log.warn("Virtual threads requested but running on Java {}; requests use the platform thread pool", feature);
+        } else {
+            log.info("Request handling and async work run on virtual threads");
+        }
+    }
+}
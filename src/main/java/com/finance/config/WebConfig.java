@@ -0,0 +1,30 @@
+package com.finance.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private ConditionalGetInterceptor conditionalGetInterceptor;
+
+    @Autowired
+    private ReadYourWritesInterceptor readYourWritesInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(readYourWritesInterceptor).addPathPatterns("/api/**");
+
+        // Only endpoints whose response depends on nothing but the user's stored data; the
+        // dashboard defaults to "this month" and exports stream, so both are left out.
+        registry.addInterceptor(conditionalGetInterceptor)
+                .addPathPatterns("/api/expenses", "/api/expenses/**",
+                        "/api/incomes", "/api/incomes/**",
+                        "/api/budgets", "/api/budgets/**",
+                        "/api/summaries/**")
+                .excludePathPatterns("/api/expenses/export", "/api/incomes/export");
+    }
+}
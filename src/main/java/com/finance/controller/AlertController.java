@@ -0,0 +1,79 @@
+package com.finance.controller;
+
+import com.finance.dto.CursorPage;
+import com.finance.model.BudgetAlert;
+import com.finance.repository.BudgetAlertRepository;
+import com.finance.security.AuthenticatedUser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/alerts")
+@CrossOrigin(origins = "*")
+public class AlertController {
+
+    @Autowired
+    private BudgetAlertRepository budgetAlertRepository;
+
+    @Transactional(readOnly = true)
+    @GetMapping
+    public ResponseEntity<?> getAlerts(@RequestParam(defaultValue = "false") boolean unread,
+                                       @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit,
+                                       @AuthenticationPrincipal AuthenticatedUser principal) {
+        try {
+            PageRequest page = PageRequest.of(0, CursorPage.clampLimit(limit));
+            List<BudgetAlert> alerts = unread
+                    ? budgetAlertRepository.findByUserIdAndAcknowledgedFalseOrderByCreatedAtDescIdDesc(principal.getId(), page)
+                    : budgetAlertRepository.findByUserIdOrderByCreatedAtDescIdDesc(principal.getId(), page);
+            return ResponseEntity.ok(alerts);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "Failed to fetch alerts: " + e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @PostMapping("/{id}/acknowledge")
+    public ResponseEntity<?> acknowledgeAlert(@PathVariable Long id,
+                                              @AuthenticationPrincipal AuthenticatedUser principal) {
+        try {
+            BudgetAlert alert = budgetAlertRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Alert not found"));
+
+            if (!alert.getUserId().equals(principal.getId())) {
+                Map<String, String> error = new HashMap<>();
+                error.put("message", "Unauthorized");
+                return ResponseEntity.status(403).body(error);
+            }
+
+            alert.setAcknowledged(true);
+            return ResponseEntity.ok(budgetAlertRepository.save(alert));
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "Failed to acknowledge alert: " + e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @PostMapping("/acknowledge-all")
+    public ResponseEntity<?> acknowledgeAll(@AuthenticationPrincipal AuthenticatedUser principal) {
+        try {
+            int acknowledged = budgetAlertRepository.acknowledgeAll(principal.getId());
+            Map<String, Integer> response = new HashMap<>();
+            response.put("acknowledged", acknowledged);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "Failed to acknowledge alerts: " + e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+}
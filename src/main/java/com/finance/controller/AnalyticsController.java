@@ -0,0 +1,42 @@
+package com.finance.controller;
+
+import com.finance.security.AuthenticatedUser;
+import com.finance.service.AnalyticsService;
+import com.finance.service.SpendingSeriesBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/analytics")
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @GetMapping("/series")
+    public ResponseEntity<?> getSpendingSeries(
+            @RequestParam(defaultValue = "month") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String category,
+            @AuthenticationPrincipal AuthenticatedUser principal) {
+        try {
+            LocalDate end = endDate != null ? endDate : LocalDate.now();
+            LocalDate start = startDate != null ? startDate : end.minusYears(1).plusDays(1);
+            return ResponseEntity.ok(analyticsService.spendingSeries(principal.getId(),
+                    SpendingSeriesBuilder.Granularity.parse(granularity), start, end, category));
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "Failed to build spending series: " + e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+}
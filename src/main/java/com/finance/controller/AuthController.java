@@ -6,7 +6,11 @@ import com.finance.dto.RegisterRequest;
 import com.finance.model.User;
 import com.finance.repository.UserRepository;
 import com.finance.security.JwtUtil;
+import com.finance.service.CustomUserDetailsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -16,6 +20,10 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -34,8 +42,24 @@ public class AuthController {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    @Qualifier("passwordHashExecutor")
+    private Executor passwordHashExecutor;
+
     @PostMapping("/register")
-    public ResponseEntity<?> register(@RequestBody RegisterRequest request) {
+    public CompletableFuture<ResponseEntity<?>> register(@RequestBody RegisterRequest request) {
+        return onPasswordHashExecutor(() -> doRegister(request));
+    }
+
+    @PostMapping("/login")
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody AuthRequest request) {
+        return onPasswordHashExecutor(() -> doLogin(request));
+    }
+
+    private ResponseEntity<?> doRegister(RegisterRequest request) {
         try {
             if (userRepository.existsByEmail(request.getEmail())) {
                 Map<String, String> error = new HashMap<>();
@@ -50,6 +74,7 @@ public class AuthController {
             user.setEmailVerified(true);
 
             userRepository.save(user);
+            userDetailsService.evict(user.getEmail());
 
             String token = jwtUtil.generateToken(user.getEmail());
 
@@ -61,8 +86,7 @@ public class AuthController {
         }
     }
 
-    @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody AuthRequest request) {
+    private ResponseEntity<?> doLogin(AuthRequest request) {
         try {
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
@@ -80,4 +104,20 @@ public class AuthController {
             return ResponseEntity.badRequest().body(error);
         }
     }
+
+    /**
+     * Runs a bcrypt-bound request on the password hashing pool, releasing the request thread
+     * while it waits. Answers 503 straight away when the pool's queue is full.
+     */
+    private CompletableFuture<ResponseEntity<?>> onPasswordHashExecutor(Supplier<ResponseEntity<?>> work) {
+        try {
+            return CompletableFuture.supplyAsync(work, passwordHashExecutor);
+        } catch (RejectedExecutionException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "Too many sign-in requests, please try again shortly");
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(error));
+        }
+    }
 }
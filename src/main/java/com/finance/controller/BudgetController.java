@@ -1,19 +1,22 @@
 package com.finance.controller;
 
+import com.finance.dto.BudgetView;
 import com.finance.model.Budget;
-import com.finance.model.User;
 import com.finance.repository.BudgetRepository;
-import com.finance.repository.ExpenseRepository;
-import com.finance.repository.UserRepository;
+import com.finance.security.AuthenticatedUser;
+import com.finance.service.AggregateCacheService;
+import com.finance.service.BudgetService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RestController
@@ -25,21 +28,16 @@ public class BudgetController {
     private BudgetRepository budgetRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private BudgetService budgetService;
 
     @Autowired
-    private ExpenseRepository expenseRepository;
+    private AggregateCacheService aggregateCacheService;
 
     @PostMapping
-    public ResponseEntity<?> createBudget(@RequestBody Budget budget, Authentication authentication) {
+    public ResponseEntity<?> createBudget(@RequestBody Budget budget,
+                                          @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            User user = userRepository.findByEmail(authentication.getName())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            budget.setUser(user);
-            Budget savedBudget = budgetRepository.save(budget);
-
-            return ResponseEntity.ok(savedBudget);
+            return ResponseEntity.ok(budgetService.create(principal.getId(), budget));
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("message", "Failed to create budget: " + e.getMessage());
@@ -47,13 +45,11 @@ public class BudgetController {
         }
     }
 
+    @Transactional(readOnly = true)
     @GetMapping
-    public ResponseEntity<?> getAllBudgets(Authentication authentication) {
+    public ResponseEntity<?> getAllBudgets(@AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            User user = userRepository.findByEmail(authentication.getName())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            List<Budget> budgets = budgetRepository.findByUserId(user.getId());
+            List<BudgetView> budgets = budgetRepository.findByUserId(principal.getId());
             return ResponseEntity.ok(budgets);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
@@ -62,14 +58,12 @@ public class BudgetController {
         }
     }
 
+    @Transactional(readOnly = true)
     @GetMapping("/month/{month}/year/{year}")
     public ResponseEntity<?> getBudgetsByMonthAndYear(@PathVariable int month, @PathVariable int year,
-                                                       Authentication authentication) {
+                                                       @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            User user = userRepository.findByEmail(authentication.getName())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            List<Budget> budgets = budgetRepository.findByUserIdAndMonthAndYear(user.getId(), month, year);
+            List<BudgetView> budgets = budgetRepository.findByUserIdAndMonthAndYear(principal.getId(), month, year);
             return ResponseEntity.ok(budgets);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
@@ -78,34 +72,20 @@ public class BudgetController {
         }
     }
 
+    @Transactional(readOnly = true)
     @GetMapping("/progress")
     public ResponseEntity<?> getBudgetProgress(@RequestParam int month, @RequestParam int year,
-                                               Authentication authentication) {
+                                               @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            User user = userRepository.findByEmail(authentication.getName())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            List<Budget> budgets = budgetRepository.findByUserIdAndMonthAndYear(user.getId(), month, year);
-
-            List<Map<String, Object>> progress = budgets.stream().map(budget -> {
-                BigDecimal spent = expenseRepository.sumByUserIdAndCategoryAndMonthAndYear(
-                        user.getId(), budget.getCategory(), month, year);
+            List<BudgetView> budgets = budgetRepository.findByUserIdAndMonthAndYear(principal.getId(), month, year);
 
-                if (spent == null) {
-                    spent = BigDecimal.ZERO;
-                }
+            Map<String, BigDecimal> spentByCategory = aggregateCacheService.getSpentByCategory(
+                    principal.getId(), month, year);
 
-                Map<String, Object> item = new HashMap<>();
-                item.put("id", budget.getId());
-                item.put("category", budget.getCategory());
-                item.put("budgetAmount", budget.getBudgetAmount());
-                item.put("spent", spent);
-                item.put("remaining", budget.getBudgetAmount().subtract(spent));
-                item.put("percentage", spent.divide(budget.getBudgetAmount(), 4, BigDecimal.ROUND_HALF_UP)
-                        .multiply(BigDecimal.valueOf(100)).intValue());
-
-                return item;
-            }).collect(Collectors.toList());
+            List<Map<String, Object>> progress = budgets.stream()
+                    .map(budget -> budgetService.progressItem(budget,
+                            spentByCategory.getOrDefault(budget.category(), BigDecimal.ZERO)))
+                    .collect(Collectors.toList());
 
             return ResponseEntity.ok(progress);
         } catch (Exception e) {
@@ -117,27 +97,18 @@ public class BudgetController {
 
     @PutMapping("/{id}")
     public ResponseEntity<?> updateBudget(@PathVariable Long id, @RequestBody Budget budgetDetails,
-                                         Authentication authentication) {
+                                         @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            User user = userRepository.findByEmail(authentication.getName())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            Budget budget = budgetRepository.findById(id)
-                    .orElseThrow(() -> new RuntimeException("Budget not found"));
+            Optional<Budget> updatedBudget = budgetService.update(principal.getId(), id, budgetDetails);
 
-            if (!budget.getUser().getId().equals(user.getId())) {
+            // Another user's budget is indistinguishable from a missing one.
+            if (updatedBudget.isEmpty()) {
                 Map<String, String> error = new HashMap<>();
-                error.put("message", "Unauthorized");
-                return ResponseEntity.status(403).body(error);
+                error.put("message", "Budget not found");
+                return ResponseEntity.status(404).body(error);
             }
 
-            budget.setCategory(budgetDetails.getCategory());
-            budget.setBudgetAmount(budgetDetails.getBudgetAmount());
-            budget.setMonth(budgetDetails.getMonth());
-            budget.setYear(budgetDetails.getYear());
-
-            Budget updatedBudget = budgetRepository.save(budget);
-            return ResponseEntity.ok(updatedBudget);
+            return ResponseEntity.ok(updatedBudget.get());
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("message", "Failed to update budget: " + e.getMessage());
@@ -146,22 +117,15 @@ public class BudgetController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteBudget(@PathVariable Long id, Authentication authentication) {
+    public ResponseEntity<?> deleteBudget(@PathVariable Long id,
+                                          @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            User user = userRepository.findByEmail(authentication.getName())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            Budget budget = budgetRepository.findById(id)
-                    .orElseThrow(() -> new RuntimeException("Budget not found"));
-
-            if (!budget.getUser().getId().equals(user.getId())) {
+            if (!budgetService.delete(principal.getId(), id)) {
                 Map<String, String> error = new HashMap<>();
-                error.put("message", "Unauthorized");
-                return ResponseEntity.status(403).body(error);
+                error.put("message", "Budget not found");
+                return ResponseEntity.status(404).body(error);
             }
 
-            budgetRepository.delete(budget);
-
             Map<String, String> response = new HashMap<>();
             response.put("message", "Budget deleted successfully");
             return ResponseEntity.ok(response);
@@ -0,0 +1,39 @@
+package com.finance.controller;
+
+import com.finance.security.AuthenticatedUser;
+import com.finance.service.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@CrossOrigin(origins = "*")
+public class DashboardController {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @GetMapping
+    public ResponseEntity<?> getDashboard(@RequestParam(required = false) Integer month,
+                                          @RequestParam(required = false) Integer year,
+                                          @RequestParam(defaultValue = "5") int topCategories,
+                                          @AuthenticationPrincipal AuthenticatedUser principal) {
+        try {
+            LocalDate today = LocalDate.now();
+            return ResponseEntity.ok(dashboardService.getDashboard(principal.getId(),
+                    month != null ? month : today.getMonthValue(),
+                    year != null ? year : today.getYear(),
+                    Math.max(0, topCategories)));
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "Failed to load dashboard: " + e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+}
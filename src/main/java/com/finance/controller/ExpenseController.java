@@ -1,19 +1,35 @@
 package com.finance.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finance.dto.BulkDeleteRequest;
+import com.finance.dto.CursorPage;
+import com.finance.dto.ExpenseView;
 import com.finance.model.Expense;
-import com.finance.model.User;
-import com.finance.repository.ExpenseRepository;
 import com.finance.repository.UserRepository;
+import com.finance.security.AuthenticatedUser;
+import com.finance.service.ExpenseService;
+import com.finance.service.TransactionExportService;
+import com.finance.service.TransactionImportService;
+import com.finance.service.TransactionSearchService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/expenses")
@@ -21,19 +37,28 @@ import java.util.Map;
 public class ExpenseController {
 
     @Autowired
-    private ExpenseRepository expenseRepository;
+    private UserRepository userRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private ExpenseService expenseService;
+
+    @Autowired
+    private TransactionImportService transactionImportService;
+
+    @Autowired
+    private TransactionExportService transactionExportService;
+
+    @Autowired
+    private TransactionSearchService transactionSearchService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
 
     @PostMapping
-    public ResponseEntity<?> createExpense(@RequestBody Expense expense, Authentication authentication) {
+    public ResponseEntity<?> createExpense(@RequestBody Expense expense,
+                                           @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            User user = userRepository.findByEmail(authentication.getName())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            expense.setUser(user);
-            Expense savedExpense = expenseRepository.save(expense);
+            Expense savedExpense = expenseService.create(userRepository.getReferenceById(principal.getId()), expense);
 
             return ResponseEntity.ok(savedExpense);
         } catch (Exception e) {
@@ -43,14 +68,40 @@ public class ExpenseController {
         }
     }
 
-    @GetMapping
-    public ResponseEntity<?> getAllExpenses(Authentication authentication) {
+    @PostMapping("/batch")
+    public ResponseEntity<?> importExpenses(@RequestBody List<Expense> expenses,
+                                            @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            User user = userRepository.findByEmail(authentication.getName())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
+            return ResponseEntity.ok(transactionImportService.importExpenses(principal.getId(), expenses));
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "Failed to import expenses: " + e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
 
-            List<Expense> expenses = expenseRepository.findByUserIdOrderByTransactionDateDesc(user.getId());
-            return ResponseEntity.ok(expenses);
+    @PostMapping(value = "/import", consumes = {"text/csv", "text/plain"})
+    public ResponseEntity<?> importExpensesCsv(InputStream body,
+                                               @AuthenticationPrincipal AuthenticatedUser principal) {
+        try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            return ResponseEntity.ok(transactionImportService.importExpensesCsv(principal.getId(), reader));
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "Failed to import expenses: " + e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @GetMapping
+    public ResponseEntity<?> getAllExpenses(@RequestParam(required = false) String cursor,
+                                            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit,
+                                            @AuthenticationPrincipal AuthenticatedUser principal) {
+        try {
+            int pageSize = CursorPage.clampLimit(limit);
+            CursorPage.Position after = cursor == null || cursor.isEmpty() ? null : CursorPage.decodeCursor(cursor);
+            List<ExpenseView> expenses = expenseService.findPage(principal.getId(), after, pageSize + 1);
+            return ResponseEntity.ok(CursorPage.of(expenses, pageSize, ExpenseView::transactionDate, ExpenseView::id));
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("message", "Failed to fetch expenses: " + e.getMessage());
@@ -58,13 +109,15 @@ public class ExpenseController {
         }
     }
 
+    @Transactional(readOnly = true)
     @GetMapping("/category/{category}")
-    public ResponseEntity<?> getExpensesByCategory(@PathVariable String category, Authentication authentication) {
+    public ResponseEntity<?> getExpensesByCategory(
+            @PathVariable String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            User user = userRepository.findByEmail(authentication.getName())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            List<Expense> expenses = expenseRepository.findByUserIdAndCategory(user.getId(), category);
+            List<ExpenseView> expenses = expenseService.findByCategory(principal.getId(), category, startDate, endDate);
             return ResponseEntity.ok(expenses);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
@@ -73,17 +126,14 @@ public class ExpenseController {
         }
     }
 
+    @Transactional(readOnly = true)
     @GetMapping("/date-range")
     public ResponseEntity<?> getExpensesByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            Authentication authentication) {
+            @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            User user = userRepository.findByEmail(authentication.getName())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            List<Expense> expenses = expenseRepository.findByUserIdAndTransactionDateBetween(
-                    user.getId(), startDate, endDate);
+            List<ExpenseView> expenses = expenseService.findByDateRange(principal.getId(), startDate, endDate);
             return ResponseEntity.ok(expenses);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
@@ -92,29 +142,60 @@ public class ExpenseController {
         }
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<?> searchExpenses(@RequestParam("q") String query,
+                                           @RequestParam(defaultValue = "" + TransactionSearchService.DEFAULT_LIMIT) int limit,
+                                           @AuthenticationPrincipal AuthenticatedUser principal) {
+        try {
+            List<ExpenseView> expenses = transactionSearchService.searchExpenses(principal.getId(), query, limit);
+            return ResponseEntity.ok(expenses);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "Failed to search expenses: " + e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportExpenses(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @AuthenticationPrincipal AuthenticatedUser principal) {
+        try {
+            TransactionExportService.Format exportFormat = TransactionExportService.Format.parse(format);
+            Long userId = principal.getId();
+
+            StreamingResponseBody body = out ->
+                    transactionExportService.writeExpenses(userId, startDate, endDate, exportFormat, out);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"expenses." + exportFormat.getExtension() + "\"")
+                    .body(body);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "Failed to export expenses: " + e.getMessage());
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> objectMapper.writeValue(out, error));
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<?> updateExpense(@PathVariable Long id, @RequestBody Expense expenseDetails,
-                                          Authentication authentication) {
+                                          @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            User user = userRepository.findByEmail(authentication.getName())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            Expense expense = expenseRepository.findById(id)
-                    .orElseThrow(() -> new RuntimeException("Expense not found"));
+            Optional<ExpenseView> updatedExpense = expenseService.update(principal.getId(), id, expenseDetails);
 
-            if (!expense.getUser().getId().equals(user.getId())) {
+            // Another user's expense is indistinguishable from a missing one.
+            if (updatedExpense.isEmpty()) {
                 Map<String, String> error = new HashMap<>();
-                error.put("message", "Unauthorized");
-                return ResponseEntity.status(403).body(error);
+                error.put("message", "Expense not found");
+                return ResponseEntity.status(404).body(error);
             }
 
-            expense.setAmount(expenseDetails.getAmount());
-            expense.setCategory(expenseDetails.getCategory());
-            expense.setDescription(expenseDetails.getDescription());
-            expense.setTransactionDate(expenseDetails.getTransactionDate());
-
-            Expense updatedExpense = expenseRepository.save(expense);
-            return ResponseEntity.ok(updatedExpense);
+            return ResponseEntity.ok(updatedExpense.get());
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("message", "Failed to update expense: " + e.getMessage());
@@ -123,22 +204,15 @@ public class ExpenseController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteExpense(@PathVariable Long id, Authentication authentication) {
+    public ResponseEntity<?> deleteExpense(@PathVariable Long id,
+                                           @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            User user = userRepository.findByEmail(authentication.getName())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            Expense expense = expenseRepository.findById(id)
-                    .orElseThrow(() -> new RuntimeException("Expense not found"));
-
-            if (!expense.getUser().getId().equals(user.getId())) {
+            if (!expenseService.delete(principal.getId(), id)) {
                 Map<String, String> error = new HashMap<>();
-                error.put("message", "Unauthorized");
-                return ResponseEntity.status(403).body(error);
+                error.put("message", "Expense not found");
+                return ResponseEntity.status(404).body(error);
             }
 
-            expenseRepository.delete(expense);
-
             Map<String, String> response = new HashMap<>();
             response.put("message", "Expense deleted successfully");
             return ResponseEntity.ok(response);
@@ -148,4 +222,30 @@ public class ExpenseController {
             return ResponseEntity.badRequest().body(error);
         }
     }
+
+    // Rows that do not exist or belong to another user are skipped, not reported.
+    @PostMapping("/batch/delete")
+    public ResponseEntity<?> deleteExpenses(@RequestBody BulkDeleteRequest request,
+                                            @AuthenticationPrincipal AuthenticatedUser principal) {
+        try {
+            boolean byIds = request.getIds() != null;
+            boolean byRange = request.getStartDate() != null || request.getEndDate() != null;
+            if (byIds == byRange || (byRange && (request.getStartDate() == null || request.getEndDate() == null))) {
+                throw new IllegalArgumentException("Provide either ids or startDate and endDate");
+            }
+
+            int deleted = byIds
+                    ? expenseService.deleteAll(principal.getId(), request.getIds())
+                    : expenseService.deleteAllBetween(principal.getId(), request.getStartDate(), request.getEndDate());
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "Expenses deleted successfully");
+            response.put("deleted", deleted);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "Failed to delete expenses: " + e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
 }
@@ -0,0 +1,32 @@
+package com.finance.controller;
+
+import com.finance.security.AuthenticatedUser;
+import com.finance.service.ForecastService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/forecast")
+@CrossOrigin(origins = "*")
+public class ForecastController {
+
+    @Autowired
+    private ForecastService forecastService;
+
+    @GetMapping
+    public ResponseEntity<?> getForecast(@RequestParam(defaultValue = "" + ForecastService.DEFAULT_MONTHS) int months,
+                                         @AuthenticationPrincipal AuthenticatedUser principal) {
+        try {
+            return ResponseEntity.ok(forecastService.forecast(principal.getId(), months));
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "Failed to compute forecast: " + e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+}
@@ -1,17 +1,35 @@
 package com.finance.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finance.dto.BulkDeleteRequest;
+import com.finance.dto.CursorPage;
+import com.finance.dto.IncomeView;
 import com.finance.model.Income;
-import com.finance.model.User;
-import com.finance.repository.IncomeRepository;
 import com.finance.repository.UserRepository;
+import com.finance.security.AuthenticatedUser;
+import com.finance.service.IncomeService;
+import com.finance.service.TransactionExportService;
+import com.finance.service.TransactionImportService;
+import com.finance.service.TransactionSearchService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/incomes")
@@ -19,19 +37,28 @@ import java.util.Map;
 public class IncomeController {
 
     @Autowired
-    private IncomeRepository incomeRepository;
+    private UserRepository userRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private IncomeService incomeService;
+
+    @Autowired
+    private TransactionImportService transactionImportService;
+
+    @Autowired
+    private TransactionExportService transactionExportService;
+
+    @Autowired
+    private TransactionSearchService transactionSearchService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
 
     @PostMapping
-    public ResponseEntity<?> createIncome(@RequestBody Income income, Authentication authentication) {
+    public ResponseEntity<?> createIncome(@RequestBody Income income,
+                                          @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            User user = userRepository.findByEmail(authentication.getName())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            income.setUser(user);
-            Income savedIncome = incomeRepository.save(income);
+            Income savedIncome = incomeService.create(userRepository.getReferenceById(principal.getId()), income);
 
             return ResponseEntity.ok(savedIncome);
         } catch (Exception e) {
@@ -41,46 +68,101 @@ public class IncomeController {
         }
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<?> importIncomes(@RequestBody List<Income> incomes,
+                                            @AuthenticationPrincipal AuthenticatedUser principal) {
+        try {
+            return ResponseEntity.ok(transactionImportService.importIncomes(principal.getId(), incomes));
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "Failed to import incomes: " + e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", "text/plain"})
+    public ResponseEntity<?> importIncomesCsv(InputStream body,
+                                               @AuthenticationPrincipal AuthenticatedUser principal) {
+        try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            return ResponseEntity.ok(transactionImportService.importIncomesCsv(principal.getId(), reader));
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "Failed to import incomes: " + e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @Transactional(readOnly = true)
     @GetMapping
-    public ResponseEntity<?> getAllIncomes(Authentication authentication) {
+    public ResponseEntity<?> getAllIncomes(@RequestParam(required = false) String cursor,
+                                            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit,
+                                            @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            User user = userRepository.findByEmail(authentication.getName())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
+            int pageSize = CursorPage.clampLimit(limit);
+            CursorPage.Position after = cursor == null || cursor.isEmpty() ? null : CursorPage.decodeCursor(cursor);
+            List<IncomeView> incomes = incomeService.findPage(principal.getId(), after, pageSize + 1);
+            return ResponseEntity.ok(CursorPage.of(incomes, pageSize, IncomeView::transactionDate, IncomeView::id));
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "Failed to fetch incomes: " + e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
 
-            List<Income> incomes = incomeRepository.findByUserIdOrderByTransactionDateDesc(user.getId());
+    @GetMapping("/search")
+    public ResponseEntity<?> searchIncomes(@RequestParam("q") String query,
+                                           @RequestParam(defaultValue = "" + TransactionSearchService.DEFAULT_LIMIT) int limit,
+                                           @AuthenticationPrincipal AuthenticatedUser principal) {
+        try {
+            List<IncomeView> incomes = transactionSearchService.searchIncomes(principal.getId(), query, limit);
             return ResponseEntity.ok(incomes);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
-            error.put("message", "Failed to fetch incomes: " + e.getMessage());
+            error.put("message", "Failed to search incomes: " + e.getMessage());
             return ResponseEntity.badRequest().body(error);
         }
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportIncomes(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @AuthenticationPrincipal AuthenticatedUser principal) {
+        try {
+            TransactionExportService.Format exportFormat = TransactionExportService.Format.parse(format);
+            Long userId = principal.getId();
+
+            StreamingResponseBody body = out ->
+                    transactionExportService.writeIncomes(userId, startDate, endDate, exportFormat, out);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"incomes." + exportFormat.getExtension() + "\"")
+                    .body(body);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "Failed to export incomes: " + e.getMessage());
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> objectMapper.writeValue(out, error));
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<?> updateIncome(@PathVariable Long id, @RequestBody Income incomeDetails,
-                                         Authentication authentication) {
+                                          @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            User user = userRepository.findByEmail(authentication.getName())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
+            Optional<IncomeView> updatedIncome = incomeService.update(principal.getId(), id, incomeDetails);
 
-            Income income = incomeRepository.findById(id)
-                    .orElseThrow(() -> new RuntimeException("Income not found"));
-
-            if (!income.getUser().getId().equals(user.getId())) {
+            // Another user's income is indistinguishable from a missing one.
+            if (updatedIncome.isEmpty()) {
                 Map<String, String> error = new HashMap<>();
-                error.put("message", "Unauthorized");
-                return ResponseEntity.status(403).body(error);
+                error.put("message", "Income not found");
+                return ResponseEntity.status(404).body(error);
             }
 
-            income.setAmount(incomeDetails.getAmount());
-            income.setSource(incomeDetails.getSource());
-            income.setDescription(incomeDetails.getDescription());
-            income.setFrequency(incomeDetails.getFrequency());
-            income.setTransactionDate(incomeDetails.getTransactionDate());
-            income.setRecurring(incomeDetails.isRecurring());
-
-            Income updatedIncome = incomeRepository.save(income);
-            return ResponseEntity.ok(updatedIncome);
+            return ResponseEntity.ok(updatedIncome.get());
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("message", "Failed to update income: " + e.getMessage());
@@ -89,22 +171,15 @@ public class IncomeController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteIncome(@PathVariable Long id, Authentication authentication) {
+    public ResponseEntity<?> deleteIncome(@PathVariable Long id,
+                                           @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
-            User user = userRepository.findByEmail(authentication.getName())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            Income income = incomeRepository.findById(id)
-                    .orElseThrow(() -> new RuntimeException("Income not found"));
-
-            if (!income.getUser().getId().equals(user.getId())) {
+            if (!incomeService.delete(principal.getId(), id)) {
                 Map<String, String> error = new HashMap<>();
-                error.put("message", "Unauthorized");
-                return ResponseEntity.status(403).body(error);
+                error.put("message", "Income not found");
+                return ResponseEntity.status(404).body(error);
             }
 
-            incomeRepository.delete(income);
-
             Map<String, String> response = new HashMap<>();
             response.put("message", "Income deleted successfully");
             return ResponseEntity.ok(response);
@@ -114,4 +189,30 @@ public class IncomeController {
             return ResponseEntity.badRequest().body(error);
         }
     }
+
+    // Rows that do not exist or belong to another user are skipped, not reported.
+    @PostMapping("/batch/delete")
+    public ResponseEntity<?> deleteIncomes(@RequestBody BulkDeleteRequest request,
+                                            @AuthenticationPrincipal AuthenticatedUser principal) {
+        try {
+            boolean byIds = request.getIds() != null;
+            boolean byRange = request.getStartDate() != null || request.getEndDate() != null;
+            if (byIds == byRange || (byRange && (request.getStartDate() == null || request.getEndDate() == null))) {
+                throw new IllegalArgumentException("Provide either ids or startDate and endDate");
+            }
+
+            int deleted = byIds
+                    ? incomeService.deleteAll(principal.getId(), request.getIds())
+                    : incomeService.deleteAllBetween(principal.getId(), request.getStartDate(), request.getEndDate());
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "Incomes deleted successfully");
+            response.put("deleted", deleted);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "Failed to delete incomes: " + e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
 }
@@ -0,0 +1,58 @@
+package com.finance.controller;
+
+import com.finance.model.MonthlySummary;
+import com.finance.security.AuthenticatedUser;
+import com.finance.service.MonthlySummaryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/summaries")
+@CrossOrigin(origins = "*")
+public class SummaryController {
+
+    @Autowired
+    private MonthlySummaryService monthlySummaryService;
+
+    @Transactional(readOnly = true)
+    @GetMapping("/month/{month}/year/{year}")
+    public ResponseEntity<?> getMonthlySummary(@PathVariable int month, @PathVariable int year,
+                                               @AuthenticationPrincipal AuthenticatedUser principal) {
+        try {
+            Map<MonthlySummary.Kind, List<MonthlySummary>> byKind =
+                    monthlySummaryService.getMonth(principal.getId(), month, year);
+            Map<String, Object> summary = new HashMap<>();
+            summary.put("month", month);
+            summary.put("year", year);
+            summary.put("expenses", byKind.get(MonthlySummary.Kind.EXPENSE));
+            summary.put("incomes", byKind.get(MonthlySummary.Kind.INCOME));
+            return ResponseEntity.ok(summary);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "Failed to fetch summary: " + e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<?> rebuildSummaries(@AuthenticationPrincipal AuthenticatedUser principal) {
+        try {
+            monthlySummaryService.rebuild(principal.getId());
+
+            Map<String, String> response = new HashMap<>();
+            response.put("message", "Summaries rebuilt successfully");
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", "Failed to rebuild summaries: " + e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.finance.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only budget row as the API returns it. Serializes exactly like {@link com.finance.model.Budget}.
+ */
+public record BudgetView(Long id, String category, BigDecimal budgetAmount, int month, int year,
+                         LocalDateTime createdAt) {
+}
@@ -0,0 +1,17 @@
+package com.finance.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Body of the bulk delete endpoints: either {@code ids}, or an inclusive
+ * {@code startDate}/{@code endDate} range.
+ */
+@Data
+public class BulkDeleteRequest {
+    private List<Long> ids;
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
@@ -0,0 +1,25 @@
+package com.finance.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Projected daily balances from {@code startDate} to {@code endDate} inclusive.
+ * {@code balanceCents[i]} is the end-of-day balance on {@code startDate + i}, in cents.
+ */
+@Data
+@NoArgsConstructor
+public class CashFlowForecast {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private BigDecimal startingBalance;
+    private BigDecimal endingBalance;
+    private BigDecimal lowestBalance;
+    private LocalDate lowestBalanceDate;
+    private Map<String, BigDecimal> averageMonthlySpending;
+    private long[] balanceCents;
+}
@@ -0,0 +1,11 @@
+package com.finance.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Row of a grouped SUM over one user's transactions, keyed by category.
+ */
+public interface CategoryTotal {
+    String getCategory();
+    BigDecimal getTotal();
+}
@@ -0,0 +1,13 @@
+package com.finance.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Row of a SUM over one user's transactions grouped by day and category.
+ */
+public interface DailyCategoryTotal {
+    LocalDate getTransactionDate();
+    String getCategory();
+    BigDecimal getTotal();
+}
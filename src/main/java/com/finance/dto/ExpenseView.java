@@ -0,0 +1,13 @@
+package com.finance.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only expense row as the API returns it, selected column by column so listings skip
+ * entity hydration and dirty checking. Serializes exactly like {@link com.finance.model.Expense}.
+ */
+public record ExpenseView(Long id, BigDecimal amount, String category, String description,
+                          LocalDate transactionDate, LocalDateTime createdAt) {
+}
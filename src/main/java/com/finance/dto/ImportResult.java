@@ -0,0 +1,41 @@
+package com.finance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Row numbers are 1-based positions in the submitted batch
+ * (data lines, excluding the header, for CSV uploads). Only the first
+ * {@link #MAX_REPORTED_ERRORS} errors are listed; {@code failed} always holds the full count.
+ */
+@Data
+@NoArgsConstructor
+public class ImportResult {
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private int imported;
+    private int failed;
+    private List<RowError> errors = new ArrayList<>();
+
+    public void addImported(int count) {
+        imported += count;
+    }
+
+    public void addError(int row, String message) {
+        failed++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RowError(row, message));
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class RowError {
+        private int row;
+        private String message;
+    }
+}
@@ -0,0 +1,14 @@
+package com.finance.dto;
+
+import com.finance.model.Income;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only income row as the API returns it. Serializes exactly like {@link Income}.
+ */
+public record IncomeView(Long id, BigDecimal amount, String source, String description, Income.Frequency frequency,
+                         LocalDate transactionDate, boolean recurring, LocalDateTime createdAt) {
+}
@@ -0,0 +1,13 @@
+package com.finance.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * One month and category of the monthly rollup.
+ */
+public interface MonthlyCategoryTotal {
+    int getYear();
+    int getMonth();
+    String getCategory();
+    BigDecimal getTotal();
+}
@@ -0,0 +1,24 @@
+package com.finance.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Spending per category and time bucket, in cents. {@code buckets} holds the first day of each
+ * bucket; {@code cents[c][b]} is the spending in {@code categories[c]} during bucket {@code b},
+ * and {@code totalCents[b]} the sum over all categories.
+ */
+@Data
+@NoArgsConstructor
+public class SpendingSeries {
+    private String granularity;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<LocalDate> buckets;
+    private List<String> categories;
+    private long[][] cents;
+    private long[] totalCents;
+}
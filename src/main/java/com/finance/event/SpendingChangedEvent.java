@@ -0,0 +1,8 @@
+package com.finance.event;
+
+/**
+ * Published when a user's spending or budget for one category and month may have changed:
+ * after expense writes (once per affected category/month) and after budget writes.
+ */
+public record SpendingChangedEvent(Long userId, String category, int year, int month) {
+}
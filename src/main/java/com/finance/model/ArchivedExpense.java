@@ -0,0 +1,51 @@
+package com.finance.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * An expense moved out of the hot {@code expenses} table once it fell behind the archive
+ * horizon (see {@link com.finance.service.ArchiveService}). It keeps its original id, so
+ * cursors, exports and the monthly rollup are unaffected by the move.
+ */
+@Entity
+@Table(name = "expenses_archive", indexes = {
+        @Index(name = "idx_expense_archive_user_date_id", columnList = "user_id, transaction_date, id"),
+        @Index(name = "idx_expense_archive_date", columnList = "transaction_date")})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedExpense {
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private BigDecimal amount;
+
+    @Column(nullable = false)
+    private String category;
+
+    @Column(length = 500)
+    private String description;
+
+    @Column(nullable = false)
+    private LocalDate transactionDate;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    // Copied from the hot row, see SearchTokens.
+    @Column(columnDefinition = "TEXT")
+    private String searchTokens;
+}
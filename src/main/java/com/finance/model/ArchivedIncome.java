@@ -0,0 +1,57 @@
+package com.finance.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * An income moved out of the hot {@code incomes} table once it fell behind the archive
+ * horizon. Recurring incomes are never archived: they drive the cash-flow forecast.
+ */
+@Entity
+@Table(name = "incomes_archive", indexes = {
+        @Index(name = "idx_income_archive_user_date_id", columnList = "user_id, transaction_date, id"),
+        @Index(name = "idx_income_archive_date", columnList = "transaction_date")})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedIncome {
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private BigDecimal amount;
+
+    @Column(nullable = false)
+    private String source;
+
+    @Column(length = 500)
+    private String description;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Income.Frequency frequency;
+
+    @Column(nullable = false)
+    private LocalDate transactionDate;
+
+    @Column(nullable = false)
+    private boolean recurring;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    // Copied from the hot row, see SearchTokens.
+    @Column(columnDefinition = "TEXT")
+    private String searchTokens;
+}
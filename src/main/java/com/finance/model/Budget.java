@@ -4,16 +4,27 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+/**
+ * Second-level cached: budgets are read on every progress, dashboard and alert check but
+ * change rarely. Region sizes and TTLs are in application.conf.
+ */
 @Entity
 @Table(name = "budgets")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Budget.REGION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Budget {
+    public static final String REGION = "budgets";
+    public static final String BY_MONTH_REGION = "budgets-by-month";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
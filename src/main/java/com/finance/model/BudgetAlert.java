@@ -0,0 +1,55 @@
+package com.finance.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A budget crossing a spending threshold (percent of the budget amount). At most one row per
+ * budget and threshold; it is removed again if spending falls back below the threshold.
+ */
+@Entity
+@Table(name = "budget_alerts", uniqueConstraints = @UniqueConstraint(
+        name = "unique_budget_threshold", columnNames = {"budget_id", "threshold"}),
+        indexes = @Index(name = "idx_user_created", columnList = "user_id, created_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BudgetAlert {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "budget_id", nullable = false)
+    private Long budgetId;
+
+    @Column(nullable = false)
+    private String category;
+
+    @Column(nullable = false)
+    private int month;
+
+    @Column(nullable = false)
+    private int year;
+
+    @Column(nullable = false)
+    private int threshold;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal spentAmount;
+
+    @Column(nullable = false)
+    private BigDecimal budgetAmount;
+
+    @Column(nullable = false)
+    private boolean acknowledged = false;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
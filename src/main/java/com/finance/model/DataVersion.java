@@ -0,0 +1,27 @@
+package com.finance.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-user data version, bumped in the same transaction as every expense, income and budget
+ * write. Maintained by {@link com.finance.service.DataVersionService}.
+ */
+@Entity
+@Table(name = "data_versions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DataVersion {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(nullable = false)
+    private long lastWriteMillis;
+}
@@ -38,4 +38,15 @@ public class Expense {
     @JoinColumn(name = "user_id", nullable = false)
     @JsonIgnore
     private User user;
+
+    // Owner-scoped words of description and category for the FULLTEXT search index, see SearchTokens.
+    @JsonIgnore
+    @Column(columnDefinition = "TEXT")
+    private String searchTokens;
+
+    @PrePersist
+    @PreUpdate
+    void updateSearchTokens() {
+        searchTokens = SearchTokens.of(user.getId(), description, category);
+    }
 }
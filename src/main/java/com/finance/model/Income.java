@@ -46,6 +46,17 @@ public class Income {
     @JsonIgnore
     private User user;
 
+    // Owner-scoped words of description and source for the FULLTEXT search index, see SearchTokens.
+    @JsonIgnore
+    @Column(columnDefinition = "TEXT")
+    private String searchTokens;
+
+    @PrePersist
+    @PreUpdate
+    void updateSearchTokens() {
+        searchTokens = SearchTokens.of(user.getId(), description, source);
+    }
+
     public enum Frequency {
         DAILY, WEEKLY, BIWEEKLY, MONTHLY, QUARTERLY, YEARLY, ONE_TIME
     }
@@ -0,0 +1,50 @@
+package com.finance.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+
+/**
+ * Per-user, per-month rollup of expenses (keyed by category) or incomes (keyed by source).
+ * Maintained incrementally by {@link com.finance.service.MonthlySummaryService}.
+ */
+@Entity
+@Table(name = "monthly_summaries", uniqueConstraints = @UniqueConstraint(
+        name = "unique_user_kind_month_category",
+        columnNames = {"user_id", "kind", "year", "month", "category"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlySummary {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private Kind kind;
+
+    @Column(nullable = false)
+    private int year;
+
+    @Column(nullable = false)
+    private int month;
+
+    @Column(nullable = false)
+    private String category;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(nullable = false)
+    private long transactionCount;
+
+    public enum Kind {
+        EXPENSE, INCOME
+    }
+}
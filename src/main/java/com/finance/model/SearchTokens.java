@@ -0,0 +1,52 @@
+package com.finance.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Words of a transaction's text, each prefixed with its owner's id ({@code u42wamazon}), stored
+ * in {@code search_tokens} under a FULLTEXT index. A MySQL FULLTEXT index cannot include
+ * {@code user_id}, so the owner goes into every token instead: a prefix search for
+ * {@code u42wama*} only walks user 42's entries, and its cost follows the user's history rather
+ * than the size of the table.
+ */
+public final class SearchTokens {
+
+    private SearchTokens() {
+    }
+
+    /**
+     * Lower-cased runs of letters and digits. Everything else separates words, which also drops
+     * the boolean-mode operators ({@code + - * " ( ) < > ~ @}) from user input.
+     */
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    public static String token(Long userId, String word) {
+        return "u" + userId + "w" + word;
+    }
+
+    public static String of(Long userId, String... fields) {
+        StringBuilder sb = new StringBuilder();
+        for (String field : fields) {
+            for (String word : words(field)) {
+                if (sb.length() > 0) {
+                    sb.append(' ');
+                }
+                sb.append(token(userId, word));
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -4,16 +4,27 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Second-level cached, as is the lookup by email used at login. The transaction collections
+ * are not cached.
+ */
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.REGION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class User {
+    public static final String REGION = "users";
+    public static final String BY_EMAIL_REGION = "users-by-email";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
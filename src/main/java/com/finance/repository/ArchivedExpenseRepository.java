@@ -0,0 +1,99 @@
+package com.finance.repository;
+
+import com.finance.dto.DailyCategoryTotal;
+import com.finance.dto.ExpenseView;
+import com.finance.model.ArchivedExpense;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Reads of the expense archive mirror the {@link ExpenseRepository} queries they complement.
+ */
+@Repository
+public interface ArchivedExpenseRepository extends JpaRepository<ArchivedExpense, Long> {
+    String VIEW = "SELECT new com.finance.dto.ExpenseView(a.id, a.amount, a.category, a.description, a.transactionDate, a.createdAt) FROM ArchivedExpense a ";
+
+    @Query(VIEW + "WHERE a.userId = :userId AND a.category = :category")
+    List<ExpenseView> findByUserIdAndCategory(Long userId, String category);
+
+    @Query(VIEW + "WHERE a.userId = :userId AND a.category = :category " +
+            "AND a.transactionDate BETWEEN :startDate AND :endDate")
+    List<ExpenseView> findByUserIdAndCategoryAndTransactionDateBetween(Long userId, String category,
+                                                                      LocalDate startDate, LocalDate endDate);
+
+    @Query(VIEW + "WHERE a.userId = :userId AND a.transactionDate BETWEEN :startDate AND :endDate")
+    List<ExpenseView> findByUserIdAndTransactionDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
+
+    @Query("SELECT MAX(a.transactionDate) FROM ArchivedExpense a")
+    LocalDate findLatestTransactionDate();
+
+    @Query("SELECT a.transactionDate AS transactionDate, a.category AS category, SUM(a.amount) AS total " +
+            "FROM ArchivedExpense a WHERE a.userId = :userId AND a.transactionDate BETWEEN :startDate AND :endDate " +
+            "AND (:category IS NULL OR a.category = :category) GROUP BY a.transactionDate, a.category")
+    List<DailyCategoryTotal> sumByUserIdGroupByDayAndCategory(Long userId, LocalDate startDate, LocalDate endDate,
+                                                              String category);
+
+    @Query(VIEW + "WHERE a.userId = :userId ORDER BY a.transactionDate DESC, a.id DESC")
+    List<ExpenseView> findFirstPageByUserId(Long userId, Pageable pageable);
+
+    @Query(VIEW + "WHERE a.userId = :userId AND (a.transactionDate < :transactionDate " +
+            "OR (a.transactionDate = :transactionDate AND a.id < :id)) ORDER BY a.transactionDate DESC, a.id DESC")
+    List<ExpenseView> findPageByUserIdAfter(Long userId, LocalDate transactionDate, Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(VIEW + "WHERE a.userId = :userId " +
+            "AND a.transactionDate BETWEEN :startDate AND :endDate ORDER BY a.transactionDate, a.id")
+    Stream<ExpenseView> streamByUserIdAndTransactionDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
+
+    // MATCH ... AGAINST has no JPQL form: rank ids natively, then load them through VIEW.
+    @Query(value = "SELECT a.id FROM expenses_archive a WHERE a.user_id = :userId " +
+            "AND MATCH(a.search_tokens) AGAINST (:query IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(a.search_tokens) AGAINST (:query IN BOOLEAN MODE) DESC, " +
+            "a.transaction_date DESC, a.id DESC LIMIT :limit", nativeQuery = true)
+    List<Long> searchFullTextIds(Long userId, String query, int limit);
+
+    @Query(VIEW + "WHERE a.userId = :userId AND a.id IN :ids")
+    List<ExpenseView> findViewsByUserIdAndIdIn(Long userId, Collection<Long> ids);
+
+    @Query(VIEW + "WHERE a.userId = :userId AND (LOWER(a.description) LIKE :pattern ESCAPE '\\' " +
+            "OR LOWER(a.category) LIKE :pattern ESCAPE '\\') ORDER BY a.transactionDate DESC, a.id DESC")
+    List<ExpenseView> searchByPattern(Long userId, String pattern, Pageable pageable);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "expenses_archive"))
+    @Query(value = "INSERT INTO expenses_archive " +
+            "(id, user_id, amount, category, description, transaction_date, created_at, search_tokens, archived_at) " +
+            "SELECT id, user_id, amount, category, description, transaction_date, created_at, search_tokens, " +
+            "CURRENT_TIMESTAMP " +
+            "FROM expenses WHERE id IN (:ids) AND transaction_date < :cutoff", nativeQuery = true)
+    int copyFromHot(List<Long> ids, LocalDate cutoff);
+
+    @Modifying
+    @Query("DELETE FROM ArchivedExpense a WHERE a.id = :id AND a.userId = :userId")
+    int deleteByIdAndUserId(Long id, Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(VIEW + "WHERE a.userId = :userId AND a.id IN :ids")
+    List<ExpenseView> lockByUserIdAndIdIn(Long userId, Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(VIEW + "WHERE a.userId = :userId AND a.transactionDate BETWEEN :startDate AND :endDate ORDER BY a.id")
+    List<ExpenseView> lockByUserIdAndTransactionDateBetween(Long userId, LocalDate startDate, LocalDate endDate,
+                                                       Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ArchivedExpense a WHERE a.userId = :userId AND a.id IN :ids")
+    int deleteByUserIdAndIdIn(Long userId, Collection<Long> ids);
+}
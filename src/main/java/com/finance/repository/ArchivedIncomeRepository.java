@@ -0,0 +1,82 @@
+package com.finance.repository;
+
+import com.finance.dto.IncomeView;
+import com.finance.model.ArchivedIncome;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Reads of the income archive mirror the {@link IncomeRepository} queries they complement.
+ */
+@Repository
+public interface ArchivedIncomeRepository extends JpaRepository<ArchivedIncome, Long> {
+    @Query("SELECT MAX(a.transactionDate) FROM ArchivedIncome a")
+    LocalDate findLatestTransactionDate();
+
+    String VIEW = "SELECT new com.finance.dto.IncomeView(a.id, a.amount, a.source, a.description, a.frequency, a.transactionDate, a.recurring, a.createdAt) FROM ArchivedIncome a ";
+
+    @Query(VIEW + "WHERE a.userId = :userId ORDER BY a.transactionDate DESC, a.id DESC")
+    List<IncomeView> findFirstPageByUserId(Long userId, Pageable pageable);
+
+    @Query(VIEW + "WHERE a.userId = :userId AND (a.transactionDate < :transactionDate " +
+            "OR (a.transactionDate = :transactionDate AND a.id < :id)) ORDER BY a.transactionDate DESC, a.id DESC")
+    List<IncomeView> findPageByUserIdAfter(Long userId, LocalDate transactionDate, Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(VIEW + "WHERE a.userId = :userId " +
+            "AND a.transactionDate BETWEEN :startDate AND :endDate ORDER BY a.transactionDate, a.id")
+    Stream<IncomeView> streamByUserIdAndTransactionDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
+
+    // MATCH ... AGAINST has no JPQL form: rank ids natively, then load them through VIEW.
+    @Query(value = "SELECT a.id FROM incomes_archive a WHERE a.user_id = :userId " +
+            "AND MATCH(a.search_tokens) AGAINST (:query IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(a.search_tokens) AGAINST (:query IN BOOLEAN MODE) DESC, " +
+            "a.transaction_date DESC, a.id DESC LIMIT :limit", nativeQuery = true)
+    List<Long> searchFullTextIds(Long userId, String query, int limit);
+
+    @Query(VIEW + "WHERE a.userId = :userId AND a.id IN :ids")
+    List<IncomeView> findViewsByUserIdAndIdIn(Long userId, Collection<Long> ids);
+
+    @Query(VIEW + "WHERE a.userId = :userId AND (LOWER(a.description) LIKE :pattern ESCAPE '\\' " +
+            "OR LOWER(a.source) LIKE :pattern ESCAPE '\\') ORDER BY a.transactionDate DESC, a.id DESC")
+    List<IncomeView> searchByPattern(Long userId, String pattern, Pageable pageable);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "incomes_archive"))
+    @Query(value = "INSERT INTO incomes_archive " +
+            "(id, user_id, amount, source, description, frequency, transaction_date, recurring, created_at, " +
+            "search_tokens, archived_at) " +
+            "SELECT id, user_id, amount, source, description, frequency, transaction_date, recurring, created_at, " +
+            "search_tokens, CURRENT_TIMESTAMP FROM incomes " +
+            "WHERE id IN (:ids) AND transaction_date < :cutoff AND recurring = false", nativeQuery = true)
+    int copyFromHot(List<Long> ids, LocalDate cutoff);
+
+    @Modifying
+    @Query("DELETE FROM ArchivedIncome a WHERE a.id = :id AND a.userId = :userId")
+    int deleteByIdAndUserId(Long id, Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(VIEW + "WHERE a.userId = :userId AND a.id IN :ids")
+    List<IncomeView> lockByUserIdAndIdIn(Long userId, Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(VIEW + "WHERE a.userId = :userId AND a.transactionDate BETWEEN :startDate AND :endDate ORDER BY a.id")
+    List<IncomeView> lockByUserIdAndTransactionDateBetween(Long userId, LocalDate startDate, LocalDate endDate,
+                                                       Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ArchivedIncome a WHERE a.userId = :userId AND a.id IN :ids")
+    int deleteByUserIdAndIdIn(Long userId, Collection<Long> ids);
+}
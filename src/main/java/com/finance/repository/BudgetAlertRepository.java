@@ -0,0 +1,44 @@
+package com.finance.repository;
+
+import com.finance.model.BudgetAlert;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface BudgetAlertRepository extends JpaRepository<BudgetAlert, Long> {
+    List<BudgetAlert> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, Pageable pageable);
+    List<BudgetAlert> findByUserIdAndAcknowledgedFalseOrderByCreatedAtDescIdDesc(Long userId, Pageable pageable);
+
+    // Concurrent evaluations of the same budget cannot record a threshold twice.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "budget_alerts"))
+    @Query(value = "INSERT IGNORE INTO budget_alerts (user_id, budget_id, category, month, year, threshold, " +
+            "spent_amount, budget_amount, acknowledged, created_at) " +
+            "VALUES (:userId, :budgetId, :category, :month, :year, :threshold, :spent, :budgetAmount, false, " +
+            "CURRENT_TIMESTAMP)", nativeQuery = true)
+    int insertIfAbsent(Long userId, Long budgetId, String category, int month, int year, int threshold,
+                       BigDecimal spent, BigDecimal budgetAmount);
+
+    @Modifying
+    @Query("DELETE FROM BudgetAlert a WHERE a.budgetId = :budgetId AND a.threshold > :threshold")
+    int deleteByBudgetIdAndThresholdAbove(Long budgetId, int threshold);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM BudgetAlert a WHERE a.budgetId = :budgetId")
+    int deleteByBudgetId(Long budgetId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE BudgetAlert a SET a.acknowledged = true WHERE a.userId = :userId AND a.acknowledged = false")
+    int acknowledgeAll(Long userId);
+}
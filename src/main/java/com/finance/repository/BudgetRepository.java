@@ -1,14 +1,42 @@
 package com.finance.repository;
 
+import com.finance.dto.BudgetView;
 import com.finance.model.Budget;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BudgetRepository extends JpaRepository<Budget, Long> {
-    List<Budget> findByUserIdAndMonthAndYear(Long userId, int month, int year);
+    // Listings select only the columns the API returns (BudgetView), without hydrating entities.
+    String VIEW = "SELECT new com.finance.dto.BudgetView(b.id, b.category, b.budgetAmount, b.month, b.year, b.createdAt) " +
+            "FROM Budget b ";
+
+    // Cached in the second-level query cache; any write to budgets invalidates the region.
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Budget.BY_MONTH_REGION)})
+    @Query(VIEW + "WHERE b.user.id = :userId AND b.month = :month AND b.year = :year")
+    List<BudgetView> findByUserIdAndMonthAndYear(Long userId, int month, int year);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Budget.BY_MONTH_REGION)})
     Optional<Budget> findByUserIdAndCategoryAndMonthAndYear(Long userId, String category, int month, int year);
-    List<Budget> findByUserId(Long userId);
+
+    @Query(VIEW + "WHERE b.user.id = :userId")
+    List<BudgetView> findByUserId(Long userId);
+
+    Optional<Budget> findByIdAndUserId(Long id, Long userId);
+
+    // Serializes alert evaluations of one budget; bypasses the query cache so the row is read under the lock.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Budget b WHERE b.user.id = :userId AND b.category = :category " +
+            "AND b.month = :month AND b.year = :year")
+    Optional<Budget> lockByUserIdAndCategoryAndMonthAndYear(Long userId, String category, int month, int year);
 }
@@ -0,0 +1,24 @@
+package com.finance.repository;
+
+import com.finance.model.DataVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface DataVersionRepository extends JpaRepository<DataVersion, Long> {
+
+    // Joins the caller's transaction, so the new version commits (or rolls back) with the write.
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "data_versions"))
+    @Query(value = "INSERT INTO data_versions (user_id, version, last_write_millis) VALUES (:userId, 1, :now) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1, last_write_millis = VALUES(last_write_millis)",
+            nativeQuery = true)
+    int bump(Long userId, long now);
+}
@@ -1,19 +1,119 @@
 package com.finance.repository;
 
+import com.finance.dto.DailyCategoryTotal;
+import com.finance.dto.ExpenseView;
 import com.finance.model.Expense;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ExpenseRepository extends JpaRepository<Expense, Long> {
     List<Expense> findByUserIdOrderByTransactionDateDesc(Long userId);
-    List<Expense> findByUserIdAndCategory(Long userId, String category);
-    List<Expense> findByUserIdAndTransactionDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
 
-    @Query("SELECT SUM(e.amount) FROM Expense e WHERE e.user.id = :userId AND e.category = :category AND MONTH(e.transactionDate) = :month AND YEAR(e.transactionDate) = :year")
-    BigDecimal sumByUserIdAndCategoryAndMonthAndYear(Long userId, String category, int month, int year);
+    // Listings select only the columns the API returns (ExpenseView), without hydrating entities.
+    String VIEW = "SELECT new com.finance.dto.ExpenseView(e.id, e.amount, e.category, e.description, e.transactionDate, e.createdAt) FROM Expense e ";
+
+    @Query(VIEW + "WHERE e.user.id = :userId AND e.category = :category")
+    List<ExpenseView> findByUserIdAndCategory(Long userId, String category);
+
+    @Query(VIEW + "WHERE e.user.id = :userId AND e.category = :category " +
+            "AND e.transactionDate BETWEEN :startDate AND :endDate")
+    List<ExpenseView> findByUserIdAndCategoryAndTransactionDateBetween(Long userId, String category,
+                                                                      LocalDate startDate, LocalDate endDate);
+
+    @Query(VIEW + "WHERE e.user.id = :userId AND e.transactionDate BETWEEN :startDate AND :endDate")
+    List<ExpenseView> findByUserIdAndTransactionDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
+
+    // Category is optional: null selects every category.
+    @Query("SELECT e.transactionDate AS transactionDate, e.category AS category, SUM(e.amount) AS total " +
+            "FROM Expense e WHERE e.user.id = :userId AND e.transactionDate BETWEEN :startDate AND :endDate " +
+            "AND (:category IS NULL OR e.category = :category) GROUP BY e.transactionDate, e.category")
+    List<DailyCategoryTotal> sumByUserIdGroupByDayAndCategory(Long userId, LocalDate startDate, LocalDate endDate,
+                                                              String category);
+
+    @Query(VIEW + "WHERE e.user.id = :userId ORDER BY e.transactionDate DESC, e.id DESC")
+    List<ExpenseView> findFirstPageByUserId(Long userId, Pageable pageable);
+
+    @Query(VIEW + "WHERE e.user.id = :userId AND (e.transactionDate < :transactionDate " +
+            "OR (e.transactionDate = :transactionDate AND e.id < :id)) ORDER BY e.transactionDate DESC, e.id DESC")
+    List<ExpenseView> findPageByUserIdAfter(Long userId, LocalDate transactionDate, Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(VIEW + "WHERE e.user.id = :userId AND e.transactionDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY e.transactionDate, e.id")
+    Stream<ExpenseView> streamByUserIdAndTransactionDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
+
+    // MATCH ... AGAINST has no JPQL form: rank ids natively, then load them through VIEW.
+    @Query(value = "SELECT e.id FROM expenses e WHERE e.user_id = :userId " +
+            "AND MATCH(e.search_tokens) AGAINST (:query IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(e.search_tokens) AGAINST (:query IN BOOLEAN MODE) DESC, " +
+            "e.transaction_date DESC, e.id DESC LIMIT :limit", nativeQuery = true)
+    List<Long> searchFullTextIds(Long userId, String query, int limit);
+
+    @Query(VIEW + "WHERE e.user.id = :userId AND e.id IN :ids")
+    List<ExpenseView> findViewsByUserIdAndIdIn(Long userId, Collection<Long> ids);
+
+    @Query(VIEW + "WHERE e.user.id = :userId AND (LOWER(e.description) LIKE :pattern ESCAPE '\\' " +
+            "OR LOWER(e.category) LIKE :pattern ESCAPE '\\') ORDER BY e.transactionDate DESC, e.id DESC")
+    List<ExpenseView> searchByPattern(Long userId, String pattern, Pageable pageable);
+
+    // Archive mover: the oldest rows first, one chunk at a time. The ids are read without a lock,
+    // so the copy and the delete check the cutoff again: a row re-dated in between stays hot.
+    @Query("SELECT e.id FROM Expense e WHERE e.transactionDate < :cutoff ORDER BY e.id")
+    List<Long> findIdsOlderThan(LocalDate cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Expense e WHERE e.id IN :ids AND e.transactionDate < :cutoff")
+    int deleteOlderThan(List<Long> ids, LocalDate cutoff);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "expenses"))
+    @Query(value = "INSERT INTO expenses " +
+            "(id, user_id, amount, category, description, transaction_date, created_at, search_tokens) " +
+            "SELECT id, user_id, amount, category, description, transaction_date, created_at, search_tokens " +
+            "FROM expenses_archive WHERE id = :id AND user_id = :userId", nativeQuery = true)
+    int copyFromArchive(Long id, Long userId);
+
+    // Owner-scoped writes: the user id is part of every WHERE clause, so another user's row is never matched.
+    // The locking reads hand the old values to the monthly rollup and keep them stable until commit.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(VIEW + "WHERE e.id = :id AND e.user.id = :userId")
+    Optional<ExpenseView> lockByIdAndUserId(Long id, Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(VIEW + "WHERE e.user.id = :userId AND e.id IN :ids")
+    List<ExpenseView> lockByUserIdAndIdIn(Long userId, Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(VIEW + "WHERE e.user.id = :userId AND e.transactionDate BETWEEN :startDate AND :endDate ORDER BY e.id")
+    List<ExpenseView> lockByUserIdAndTransactionDateBetween(Long userId, LocalDate startDate, LocalDate endDate,
+                                                            Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Expense e SET e.amount = :amount, e.category = :category, e.description = :description, " +
+            "e.transactionDate = :transactionDate, e.searchTokens = :searchTokens WHERE e.id = :id AND e.user.id = :userId")
+    int updateByIdAndUserId(Long id, Long userId, BigDecimal amount, String category, String description,
+                            LocalDate transactionDate, String searchTokens);
+
+    @Modifying
+    @Query("DELETE FROM Expense e WHERE e.id = :id AND e.user.id = :userId")
+    int deleteByIdAndUserId(Long id, Long userId);
+
+    @Modifying
+    @Query("DELETE FROM Expense e WHERE e.user.id = :userId AND e.id IN :ids")
+    int deleteByUserIdAndIdIn(Long userId, Collection<Long> ids);
 }
@@ -1,14 +1,104 @@
 package com.finance.repository;
 
+import com.finance.dto.IncomeView;
 import com.finance.model.Income;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface IncomeRepository extends JpaRepository<Income, Long> {
     List<Income> findByUserIdOrderByTransactionDateDesc(Long userId);
     List<Income> findByUserIdAndTransactionDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
     List<Income> findByUserIdAndRecurring(Long userId, boolean recurring);
+
+    // Listings select only the columns the API returns (IncomeView), without hydrating entities.
+    String VIEW = "SELECT new com.finance.dto.IncomeView(i.id, i.amount, i.source, i.description, i.frequency, i.transactionDate, i.recurring, i.createdAt) FROM Income i ";
+
+    @Query(VIEW + "WHERE i.user.id = :userId ORDER BY i.transactionDate DESC, i.id DESC")
+    List<IncomeView> findFirstPageByUserId(Long userId, Pageable pageable);
+
+    @Query(VIEW + "WHERE i.user.id = :userId AND (i.transactionDate < :transactionDate " +
+            "OR (i.transactionDate = :transactionDate AND i.id < :id)) ORDER BY i.transactionDate DESC, i.id DESC")
+    List<IncomeView> findPageByUserIdAfter(Long userId, LocalDate transactionDate, Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(VIEW + "WHERE i.user.id = :userId AND i.transactionDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY i.transactionDate, i.id")
+    Stream<IncomeView> streamByUserIdAndTransactionDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
+
+    // MATCH ... AGAINST has no JPQL form: rank ids natively, then load them through VIEW.
+    @Query(value = "SELECT i.id FROM incomes i WHERE i.user_id = :userId " +
+            "AND MATCH(i.search_tokens) AGAINST (:query IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(i.search_tokens) AGAINST (:query IN BOOLEAN MODE) DESC, " +
+            "i.transaction_date DESC, i.id DESC LIMIT :limit", nativeQuery = true)
+    List<Long> searchFullTextIds(Long userId, String query, int limit);
+
+    @Query(VIEW + "WHERE i.user.id = :userId AND i.id IN :ids")
+    List<IncomeView> findViewsByUserIdAndIdIn(Long userId, Collection<Long> ids);
+
+    @Query(VIEW + "WHERE i.user.id = :userId AND (LOWER(i.description) LIKE :pattern ESCAPE '\\' " +
+            "OR LOWER(i.source) LIKE :pattern ESCAPE '\\') ORDER BY i.transactionDate DESC, i.id DESC")
+    List<IncomeView> searchByPattern(Long userId, String pattern, Pageable pageable);
+
+    // Archive mover: the oldest rows first, one chunk at a time. Recurring incomes stay hot. The ids
+    // are read without a lock, so the copy and the delete check both conditions again.
+    @Query("SELECT i.id FROM Income i WHERE i.transactionDate < :cutoff AND i.recurring = false ORDER BY i.id")
+    List<Long> findIdsOlderThan(LocalDate cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Income i WHERE i.id IN :ids AND i.transactionDate < :cutoff AND i.recurring = false")
+    int deleteOlderThan(List<Long> ids, LocalDate cutoff);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "incomes"))
+    @Query(value = "INSERT INTO incomes " +
+            "(id, user_id, amount, source, description, frequency, transaction_date, recurring, created_at, search_tokens) " +
+            "SELECT id, user_id, amount, source, description, frequency, transaction_date, recurring, created_at, " +
+            "search_tokens FROM incomes_archive WHERE id = :id AND user_id = :userId", nativeQuery = true)
+    int copyFromArchive(Long id, Long userId);
+
+    // Owner-scoped writes: the user id is part of every WHERE clause, so another user's row is never matched.
+    // The locking reads hand the old values to the monthly rollup and keep them stable until commit.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(VIEW + "WHERE i.id = :id AND i.user.id = :userId")
+    Optional<IncomeView> lockByIdAndUserId(Long id, Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(VIEW + "WHERE i.user.id = :userId AND i.id IN :ids")
+    List<IncomeView> lockByUserIdAndIdIn(Long userId, Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(VIEW + "WHERE i.user.id = :userId AND i.transactionDate BETWEEN :startDate AND :endDate ORDER BY i.id")
+    List<IncomeView> lockByUserIdAndTransactionDateBetween(Long userId, LocalDate startDate, LocalDate endDate,
+                                                           Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Income i SET i.amount = :amount, i.source = :source, i.description = :description, " +
+            "i.frequency = :frequency, i.transactionDate = :transactionDate, i.recurring = :recurring, " +
+            "i.searchTokens = :searchTokens WHERE i.id = :id AND i.user.id = :userId")
+    int updateByIdAndUserId(Long id, Long userId, BigDecimal amount, String source, String description,
+                            Income.Frequency frequency, LocalDate transactionDate, boolean recurring,
+                            String searchTokens);
+
+    @Modifying
+    @Query("DELETE FROM Income i WHERE i.id = :id AND i.user.id = :userId")
+    int deleteByIdAndUserId(Long id, Long userId);
+
+    @Modifying
+    @Query("DELETE FROM Income i WHERE i.user.id = :userId AND i.id IN :ids")
+    int deleteByUserIdAndIdIn(Long userId, Collection<Long> ids);
 }
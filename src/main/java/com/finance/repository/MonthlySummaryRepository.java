@@ -0,0 +1,81 @@
+package com.finance.repository;
+
+import com.finance.dto.CategoryTotal;
+import com.finance.dto.MonthlyCategoryTotal;
+import com.finance.model.MonthlySummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MonthlySummaryRepository extends JpaRepository<MonthlySummary, Long> {
+    List<MonthlySummary> findByUserIdAndKindAndYearAndMonth(Long userId, MonthlySummary.Kind kind, int year, int month);
+
+    List<MonthlySummary> findByUserIdAndYearAndMonth(Long userId, int year, int month);
+
+    Optional<MonthlySummary> findByUserIdAndKindAndYearAndMonthAndCategory(
+            Long userId, MonthlySummary.Kind kind, int year, int month, String category);
+
+    @Query("SELECT s.category AS category, s.totalAmount AS total FROM MonthlySummary s " +
+            "WHERE s.userId = :userId AND s.kind = :kind AND s.year = :year AND s.month = :month")
+    List<CategoryTotal> findCategoryTotals(Long userId, MonthlySummary.Kind kind, int year, int month);
+
+    // Months are compared as year * 12 + month.
+    @Query("SELECT s.category AS category, SUM(s.totalAmount) AS total FROM MonthlySummary s " +
+            "WHERE s.userId = :userId AND s.kind = :kind " +
+            "AND (s.year * 12 + s.month) BETWEEN :fromMonth AND :toMonth GROUP BY s.category")
+    List<CategoryTotal> sumByCategoryBetweenMonths(Long userId, MonthlySummary.Kind kind, int fromMonth, int toMonth);
+
+    @Query("SELECT s.year AS year, s.month AS month, s.category AS category, s.totalAmount AS total " +
+            "FROM MonthlySummary s WHERE s.userId = :userId AND s.kind = :kind " +
+            "AND (s.year * 12 + s.month) BETWEEN :fromMonth AND :toMonth " +
+            "AND (:category IS NULL OR s.category = :category)")
+    List<MonthlyCategoryTotal> findTotalsBetweenMonths(Long userId, MonthlySummary.Kind kind, int fromMonth,
+                                                       int toMonth, String category);
+
+    @Query("SELECT COALESCE(SUM(s.totalAmount), 0) FROM MonthlySummary s " +
+            "WHERE s.userId = :userId AND s.kind = :kind AND (s.year * 12 + s.month) <= :toMonth")
+    BigDecimal sumUpToMonth(Long userId, MonthlySummary.Kind kind, int toMonth);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "monthly_summaries"))
+    @Query(value = "INSERT INTO monthly_summaries (user_id, kind, year, month, category, total_amount, transaction_count) " +
+            "VALUES (:userId, :kind, :year, :month, :category, :amount, :count) " +
+            "ON DUPLICATE KEY UPDATE total_amount = total_amount + VALUES(total_amount), " +
+            "transaction_count = transaction_count + VALUES(transaction_count)", nativeQuery = true)
+    int applyDelta(Long userId, String kind, int year, int month, String category, BigDecimal amount, long count);
+
+    @Modifying
+    @Query("DELETE FROM MonthlySummary s WHERE s.userId = :userId AND s.kind = :kind AND s.year = :year " +
+            "AND s.month = :month AND s.category = :category AND s.transactionCount <= 0")
+    int deleteIfEmpty(Long userId, MonthlySummary.Kind kind, int year, int month, String category);
+
+    @Modifying
+    @Query("DELETE FROM MonthlySummary s WHERE s.userId = :userId")
+    int deleteByUserId(Long userId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "monthly_summaries"))
+    @Query(value = "INSERT INTO monthly_summaries (user_id, kind, year, month, category, total_amount, transaction_count) " +
+            "SELECT user_id, 'EXPENSE', YEAR(transaction_date), MONTH(transaction_date), category, SUM(amount), COUNT(*) " +
+            "FROM (SELECT user_id, transaction_date, category, amount FROM expenses WHERE user_id = :userId " +
+            "UNION ALL SELECT user_id, transaction_date, category, amount FROM expenses_archive WHERE user_id = :userId) t " +
+            "GROUP BY user_id, YEAR(transaction_date), MONTH(transaction_date), category", nativeQuery = true)
+    int rebuildExpensesForUser(Long userId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "monthly_summaries"))
+    @Query(value = "INSERT INTO monthly_summaries (user_id, kind, year, month, category, total_amount, transaction_count) " +
+            "SELECT user_id, 'INCOME', YEAR(transaction_date), MONTH(transaction_date), source, SUM(amount), COUNT(*) " +
+            "FROM (SELECT user_id, transaction_date, source, amount FROM incomes WHERE user_id = :userId " +
+            "UNION ALL SELECT user_id, transaction_date, source, amount FROM incomes_archive WHERE user_id = :userId) t " +
+            "GROUP BY user_id, YEAR(transaction_date), MONTH(transaction_date), source", nativeQuery = true)
+    int rebuildIncomesForUser(Long userId);
+}
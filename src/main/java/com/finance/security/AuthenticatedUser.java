@@ -0,0 +1,23 @@
+package com.finance.security;
+
+import org.springframework.security.core.userdetails.User;
+
+import java.util.ArrayList;
+
+/**
+ * Principal placed in the security context by {@link JwtRequestFilter}. Carries the user's
+ * database id so controllers never have to look the user up again by email.
+ */
+public class AuthenticatedUser extends User {
+
+    private final Long id;
+
+    public AuthenticatedUser(Long id, String email, String password) {
+        super(email, password, new ArrayList<>());
+        this.id = id;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
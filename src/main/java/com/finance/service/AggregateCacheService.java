@@ -0,0 +1,173 @@
+package com.finance.service;
+
+import com.finance.dto.CategoryTotal;
+import com.finance.model.MonthlySummary;
+import com.finance.repository.IncomeRepository;
+import com.finance.repository.MonthlySummaryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-user, per-month aggregates cached behind Spring Cache (Caffeine). Entries are keyed by
+ * user and month and evicted only for the months a write touches; cached values are
+ * immutable and shared between requests.
+ */
+@Service
+public class AggregateCacheService {
+
+    public static final String MONTHLY_SPENDING = "monthlySpending";
+    public static final String MONTHLY_SUMMARIES = "monthlySummaries";
+    public static final String CASH_FLOW_PROFILES = "cashFlowProfiles";
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private IncomeRepository incomeRepository;
+
+    @Autowired
+    private MonthlySummaryRepository monthlySummaryRepository;
+
+    @Value("${finance.forecast.lookback-months:3}")
+    private int lookbackMonths;
+
+    /**
+     * Spending per expense category for the month, as used by budget progress. Read from the
+     * monthly_summaries rollup, which already covers archived expenses.
+     */
+    public Map<String, BigDecimal> getSpentByCategory(Long userId, int month, int year) {
+        return cache(MONTHLY_SPENDING).get(new MonthKey(userId, year, month), () -> {
+            Map<String, BigDecimal> spentByCategory = new HashMap<>();
+            for (CategoryTotal total : monthlySummaryRepository.findCategoryTotals(
+                    userId, MonthlySummary.Kind.EXPENSE, year, month)) {
+                spentByCategory.put(total.getCategory(), total.getTotal());
+            }
+            return Map.copyOf(spentByCategory);
+        });
+    }
+
+    /**
+     * The month's rollup rows of both kinds, read in one query.
+     */
+    public Map<MonthlySummary.Kind, List<MonthlySummary>> getSummaries(Long userId, int month, int year) {
+        return cache(MONTHLY_SUMMARIES).get(new MonthKey(userId, year, month), () -> {
+            Map<MonthlySummary.Kind, List<MonthlySummary>> byKind = new EnumMap<>(MonthlySummary.Kind.class);
+            for (MonthlySummary.Kind kind : MonthlySummary.Kind.values()) {
+                byKind.put(kind, new ArrayList<>());
+            }
+            for (MonthlySummary summary : monthlySummaryRepository.findByUserIdAndYearAndMonth(userId, year, month)) {
+                byKind.get(summary.getKind()).add(summary);
+            }
+            byKind.replaceAll((kind, summaries) -> List.copyOf(summaries));
+            return Collections.unmodifiableMap(byKind);
+        });
+    }
+
+    /**
+     * Recurring income and average monthly spending per category over the {@code lookbackMonths}
+     * complete months before {@code today}, projected over {@code days} days from tomorrow.
+     * Depends only on recurring incomes and on expenses in those past months, so entries survive
+     * everyday writes; a new day gives a new key.
+     */
+    public CashFlowForecastEngine.Profile getCashFlowProfile(Long userId, LocalDate today, int days) {
+        return cache(CASH_FLOW_PROFILES).get(new ForecastKey(userId, today, days), () -> {
+            int currentMonth = monthIndex(today.getYear(), today.getMonthValue());
+            BigDecimal months = BigDecimal.valueOf(lookbackMonths);
+            Map<String, BigDecimal> averageSpending = new HashMap<>();
+            for (CategoryTotal total : monthlySummaryRepository.sumByCategoryBetweenMonths(
+                    userId, MonthlySummary.Kind.EXPENSE, currentMonth - lookbackMonths, currentMonth - 1)) {
+                averageSpending.put(total.getCategory(), total.getTotal().divide(months, 2, RoundingMode.HALF_UP));
+            }
+            return CashFlowForecastEngine.profile(today.plusDays(1), days,
+                    incomeRepository.findByUserIdAndRecurring(userId, true), Map.copyOf(averageSpending));
+        });
+    }
+
+    /**
+     * Evicts every aggregate for the user's month once the current transaction commits, so a
+     * concurrent reader cannot re-cache pre-commit data after the eviction.
+     */
+    public void evictMonth(Long userId, int year, int month) {
+        afterCommit(() -> {
+            cache(MONTHLY_SPENDING).evict(new MonthKey(userId, year, month));
+            cache(MONTHLY_SUMMARIES).evict(new MonthKey(userId, year, month));
+            // Forecasts average the months before the current one; only backdated writes matter.
+            LocalDate today = LocalDate.now();
+            int changed = monthIndex(year, month);
+            int current = monthIndex(today.getYear(), today.getMonthValue());
+            if (changed >= current - lookbackMonths && changed < current) {
+                removeForecasts(userId);
+            }
+        });
+    }
+
+    /**
+     * Evicts the user's forecast inputs; called when a recurring income is added, changed or removed.
+     */
+    public void evictForecasts(Long userId) {
+        afterCommit(() -> removeForecasts(userId));
+    }
+
+    public void evictUser(Long userId) {
+        afterCommit(() -> {
+            nativeCache(MONTHLY_SPENDING).keySet().removeIf(key -> ((MonthKey) key).userId().equals(userId));
+            nativeCache(MONTHLY_SUMMARIES).keySet().removeIf(key -> ((MonthKey) key).userId().equals(userId));
+            removeForecasts(userId);
+        });
+    }
+
+    private void removeForecasts(Long userId) {
+        nativeCache(CASH_FLOW_PROFILES).keySet().removeIf(key -> ((ForecastKey) key).userId().equals(userId));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private Cache cache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + name);
+        }
+        return cache;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Object, Object> nativeCache(String name) {
+        return ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache(name).getNativeCache()).asMap();
+    }
+
+    private static int monthIndex(int year, int month) {
+        return year * 12 + month;
+    }
+
+    private record MonthKey(Long userId, int year, int month) {
+    }
+
+    private record ForecastKey(Long userId, LocalDate today, int days) {
+    }
+}
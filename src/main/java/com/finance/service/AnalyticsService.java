@@ -0,0 +1,64 @@
+package com.finance.service;
+
+import com.finance.dto.DailyCategoryTotal;
+import com.finance.dto.MonthlyCategoryTotal;
+import com.finance.dto.SpendingSeries;
+import com.finance.model.MonthlySummary;
+import com.finance.repository.ArchivedExpenseRepository;
+import com.finance.repository.ExpenseRepository;
+import com.finance.repository.MonthlySummaryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * Spending series for charts. The database does the grouping: monthly series read the
+ * monthly_summaries rollup directly, daily and weekly ones sum expenses per day and category
+ * (covered by idx_user_date_category_amount), adding the archive's days when the range reaches
+ * it. Java only places those rows into buckets.
+ */
+@Service
+public class AnalyticsService {
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private ArchivedExpenseRepository archivedExpenseRepository;
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private MonthlySummaryRepository monthlySummaryRepository;
+
+    @Transactional(readOnly = true)
+    public SpendingSeries spendingSeries(Long userId, SpendingSeriesBuilder.Granularity granularity,
+                                         LocalDate startDate, LocalDate endDate, String category) {
+        SpendingSeriesBuilder builder = new SpendingSeriesBuilder(granularity, startDate, endDate);
+        LocalDate from = builder.getStartDate();
+        LocalDate to = builder.getEndDate();
+
+        if (granularity == SpendingSeriesBuilder.Granularity.MONTH) {
+            for (MonthlyCategoryTotal row : monthlySummaryRepository.findTotalsBetweenMonths(userId,
+                    MonthlySummary.Kind.EXPENSE, from.getYear() * 12 + from.getMonthValue(),
+                    to.getYear() * 12 + to.getMonthValue(), category)) {
+                builder.add(LocalDate.of(row.getYear(), row.getMonth(), 1), row.getCategory(), row.getTotal());
+            }
+        } else {
+            for (DailyCategoryTotal row : expenseRepository.sumByUserIdGroupByDayAndCategory(
+                    userId, from, to, category)) {
+                builder.add(row.getTransactionDate(), row.getCategory(), row.getTotal());
+            }
+            if (archiveService.reaches(from)) {
+                for (DailyCategoryTotal row : archivedExpenseRepository.sumByUserIdGroupByDayAndCategory(
+                        userId, from, to, category)) {
+                    builder.add(row.getTransactionDate(), row.getCategory(), row.getTotal());
+                }
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,222 @@
+package com.finance.service;
+
+import com.finance.repository.ArchivedExpenseRepository;
+import com.finance.repository.ArchivedIncomeRepository;
+import com.finance.repository.ExpenseRepository;
+import com.finance.repository.IncomeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Hot/cold tiering of expenses and incomes. Rows dated before the first day of the month
+ * {@code finance.archive.horizon-months} ago are moved to expenses_archive / incomes_archive in
+ * chunks, each chunk copied and deleted in one transaction. The monthly rollup is left as it
+ * is, since moving a row does not change any total.
+ * <p>
+ * Every archived row is dated before {@link #archivedBefore()}, so a read whose range starts on
+ * or after that date never touches the archive. Archived rows are moved back to the hot table
+ * before they are updated or deleted.
+ */
+@Service
+public class ArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchiveService.class);
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private IncomeRepository incomeRepository;
+
+    @Autowired
+    private ArchivedExpenseRepository archivedExpenseRepository;
+
+    @Autowired
+    private ArchivedIncomeRepository archivedIncomeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${finance.archive.horizon-months:24}")
+    private int horizonMonths;
+
+    @Value("${finance.archive.chunk-size:1000}")
+    private int chunkSize;
+
+    // Day after the newest archived row at startup; covers rows archived under a shorter horizon.
+    private volatile LocalDate archivedAtStartup;
+
+    public record Run(LocalDate cutoff, long expenses, long incomes) {
+    }
+
+    /**
+     * Rows dated before this month start are moved by the next run.
+     */
+    public LocalDate cutoff(LocalDate today) {
+        return today.minusMonths(horizonMonths).withDayOfMonth(1);
+    }
+
+    /**
+     * No archived row is dated on or after the returned day. Derived from the configured horizon
+     * rather than from the last run, so every instance agrees without coordination.
+     */
+    public LocalDate archivedBefore() {
+        LocalDate startup = archivedAtStartup;
+        if (startup == null) {
+            startup = latestArchived();
+            archivedAtStartup = startup;
+        }
+        LocalDate cutoff = cutoff(LocalDate.now());
+        return startup.isAfter(cutoff) ? startup : cutoff;
+    }
+
+    /**
+     * Whether a read starting at {@code startDate} (null: unbounded) can find rows in the archive.
+     */
+    public boolean reaches(LocalDate startDate) {
+        return startDate == null || startDate.isBefore(archivedBefore());
+    }
+
+    public Run archiveOldTransactions() {
+        return archiveOlderThan(cutoff(LocalDate.now()));
+    }
+
+    public Run archiveOlderThan(LocalDate cutoff) {
+        long start = System.currentTimeMillis();
+        long expenses = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> moveExpenses(cutoff));
+            expenses += moved;
+        } while (moved == chunkSize);
+
+        long incomes = 0;
+        do {
+            moved = transactionTemplate.execute(status -> moveIncomes(cutoff));
+            incomes += moved;
+        } while (moved == chunkSize);
+
+        meterRegistry.counter("archive.rows.moved", "table", "expenses").increment(expenses);
+        meterRegistry.counter("archive.rows.moved", "table", "incomes").increment(incomes);
+        log.info("Archived {} expenses and {} incomes dated before {} in {} ms",
+                expenses, incomes, cutoff, System.currentTimeMillis() - start);
+        return new Run(cutoff, expenses, incomes);
+    }
+
+    /**
+     * Moves one of the user's archived expenses back to the hot table.
+     *
+     * @return false if the user has no archived expense with this id
+     */
+    @Transactional
+    public boolean restoreExpense(Long userId, Long id) {
+        if (expenseRepository.copyFromArchive(id, userId) == 0) {
+            return false;
+        }
+        archivedExpenseRepository.deleteByIdAndUserId(id, userId);
+        return true;
+    }
+
+    @Transactional
+    public boolean restoreIncome(Long userId, Long id) {
+        if (incomeRepository.copyFromArchive(id, userId) == 0) {
+            return false;
+        }
+        archivedIncomeRepository.deleteByIdAndUserId(id, userId);
+        return true;
+    }
+
+    /**
+     * Merges a hot and an archived result, both sorted by {@code order}, keeping the first
+     * {@code limit} rows.
+     */
+    public static <T> List<T> merge(List<T> hot, List<T> archived, Comparator<? super T> order, int limit) {
+        List<T> merged = new ArrayList<>(Math.min(limit, hot.size() + archived.size()));
+        Iterator<T> it = mergeSorted(hot.iterator(), archived.iterator(), order);
+        while (it.hasNext() && merged.size() < limit) {
+            merged.add(it.next());
+        }
+        return merged;
+    }
+
+    /**
+     * Lazily merges two iterators that are each sorted by {@code order}.
+     */
+    public static <T> Iterator<T> mergeSorted(Iterator<T> a, Iterator<T> b, Comparator<? super T> order) {
+        return new Iterator<>() {
+            private T headA = a.hasNext() ? a.next() : null;
+            private T headB = b.hasNext() ? b.next() : null;
+
+            @Override
+            public boolean hasNext() {
+                return headA != null || headB != null;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T next;
+                if (headB == null || (headA != null && order.compare(headA, headB) <= 0)) {
+                    next = headA;
+                    headA = a.hasNext() ? a.next() : null;
+                } else {
+                    next = headB;
+                    headB = b.hasNext() ? b.next() : null;
+                }
+                return next;
+            }
+        };
+    }
+
+    private int moveExpenses(LocalDate cutoff) {
+        List<Long> ids = expenseRepository.findIdsOlderThan(cutoff, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archivedExpenseRepository.copyFromHot(ids, cutoff);
+        expenseRepository.deleteOlderThan(ids, cutoff);
+        return ids.size();
+    }
+
+    private int moveIncomes(LocalDate cutoff) {
+        List<Long> ids = incomeRepository.findIdsOlderThan(cutoff, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archivedIncomeRepository.copyFromHot(ids, cutoff);
+        incomeRepository.deleteOlderThan(ids, cutoff);
+        return ids.size();
+    }
+
+    private LocalDate latestArchived() {
+        LocalDate latest = LocalDate.MIN;
+        LocalDate expense = archivedExpenseRepository.findLatestTransactionDate();
+        if (expense != null) {
+            latest = expense.plusDays(1);
+        }
+        LocalDate income = archivedIncomeRepository.findLatestTransactionDate();
+        if (income != null && income.plusDays(1).isAfter(latest)) {
+            latest = income.plusDays(1);
+        }
+        return latest;
+    }
+}
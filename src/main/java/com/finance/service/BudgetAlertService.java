@@ -0,0 +1,86 @@
+package com.finance.service;
+
+import com.finance.event.SpendingChangedEvent;
+import com.finance.model.Budget;
+import com.finance.model.MonthlySummary;
+import com.finance.repository.BudgetAlertRepository;
+import com.finance.repository.BudgetRepository;
+import com.finance.repository.MonthlySummaryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Records budget threshold crossings. Each {@link SpendingChangedEvent} is handled on the
+ * alert executor after the publishing transaction commits, and only the one budget it names
+ * is checked, against the running category total already kept in monthly_summaries.
+ * <p>
+ * Evaluations of the same budget can run at once on the alert pool. Each one locks the budget
+ * row before reading the total, so they run one after another and the last to finish always
+ * sees the newest total; an earlier, stale evaluation cannot recreate an alert a later one
+ * removed.
+ */
+@Service
+public class BudgetAlertService {
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private BudgetAlertRepository budgetAlertRepository;
+
+    @Autowired
+    private MonthlySummaryRepository monthlySummaryRepository;
+
+    private int[] thresholds;
+
+    @Value("${finance.alerts.thresholds:80,100}")
+    public void setThresholds(int[] thresholds) {
+        int[] sorted = thresholds.clone();
+        Arrays.sort(sorted);
+        this.thresholds = sorted;
+    }
+
+    // fallbackExecution: budget writes publish outside a transaction.
+    @Async("alertExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onSpendingChanged(SpendingChangedEvent event) {
+        Optional<Budget> budget = budgetRepository.lockByUserIdAndCategoryAndMonthAndYear(
+                event.userId(), event.category(), event.month(), event.year());
+        if (budget.isEmpty()) {
+            return;
+        }
+        BigDecimal spent = monthlySummaryRepository.findByUserIdAndKindAndYearAndMonthAndCategory(
+                        event.userId(), MonthlySummary.Kind.EXPENSE, event.year(), event.month(), event.category())
+                .map(MonthlySummary::getTotalAmount)
+                .orElse(BigDecimal.ZERO);
+        evaluate(budget.get(), event.userId(), spent);
+    }
+
+    private void evaluate(Budget budget, Long userId, BigDecimal spent) {
+        BigDecimal budgetAmount = budget.getBudgetAmount();
+        BigDecimal spentPercent = spent.movePointRight(2);
+        int highestReached = 0;
+        for (int threshold : thresholds) {
+            // spent / budget >= threshold%, without dividing
+            if (budgetAmount.signum() <= 0
+                    || spentPercent.compareTo(budgetAmount.multiply(BigDecimal.valueOf(threshold))) < 0) {
+                break;
+            }
+            highestReached = threshold;
+            budgetAlertRepository.insertIfAbsent(userId, budget.getId(), budget.getCategory(),
+                    budget.getMonth(), budget.getYear(), threshold, spent, budgetAmount);
+        }
+        // Spending went down (or the budget up): let the alert fire again on the next crossing.
+        budgetAlertRepository.deleteByBudgetIdAndThresholdAbove(budget.getId(), highestReached);
+    }
+}
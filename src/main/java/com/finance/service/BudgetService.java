@@ -0,0 +1,115 @@
+package com.finance.service;
+
+import com.finance.dto.BudgetView;
+import com.finance.event.SpendingChangedEvent;
+import com.finance.model.Budget;
+import com.finance.repository.BudgetAlertRepository;
+import com.finance.repository.BudgetRepository;
+import com.finance.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Budget write paths. Each write changes the budget, its alerts and the user's data version in
+ * one transaction, and asks for the budget to be re-checked against spending once it commits.
+ */
+@Service
+public class BudgetService {
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private BudgetAlertRepository budgetAlertRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public Budget create(Long userId, Budget budget) {
+        budget.setUser(userRepository.getReferenceById(userId));
+        Budget savedBudget = budgetRepository.save(budget);
+        dataVersionService.bump(userId);
+        publishSpendingChanged(savedBudget, userId);
+        return savedBudget;
+    }
+
+    /**
+     * Applies {@code details} to one of the user's budgets. A budget moved to another category or
+     * month loses its alerts, which belonged to the old one.
+     *
+     * @return the updated budget, or empty if the user has no budget with this id
+     */
+    @Transactional
+    public Optional<Budget> update(Long userId, Long id, Budget details) {
+        Optional<Budget> found = budgetRepository.findByIdAndUserId(id, userId);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        Budget budget = found.get();
+        boolean moved = !budget.getCategory().equals(details.getCategory())
+                || budget.getMonth() != details.getMonth() || budget.getYear() != details.getYear();
+
+        budget.setCategory(details.getCategory());
+        budget.setBudgetAmount(details.getBudgetAmount());
+        budget.setMonth(details.getMonth());
+        budget.setYear(details.getYear());
+
+        Budget updatedBudget = budgetRepository.save(budget);
+        if (moved) {
+            budgetAlertRepository.deleteByBudgetId(updatedBudget.getId());
+        }
+        dataVersionService.bump(userId);
+        publishSpendingChanged(updatedBudget, userId);
+        return Optional.of(updatedBudget);
+    }
+
+    /**
+     * @return false if the user has no budget with this id
+     */
+    @Transactional
+    public boolean delete(Long userId, Long id) {
+        Optional<Budget> budget = budgetRepository.findByIdAndUserId(id, userId);
+        if (budget.isEmpty()) {
+            return false;
+        }
+        budgetAlertRepository.deleteByBudgetId(id);
+        budgetRepository.delete(budget.get());
+        dataVersionService.bump(userId);
+        return true;
+    }
+
+    /**
+     * One budget's progress entry, as listed by budget progress and the dashboard.
+     */
+    public Map<String, Object> progressItem(BudgetView budget, BigDecimal spent) {
+        Map<String, Object> item = new HashMap<>();
+        item.put("id", budget.id());
+        item.put("category", budget.category());
+        item.put("budgetAmount", budget.budgetAmount());
+        item.put("spent", spent);
+        item.put("remaining", budget.budgetAmount().subtract(spent));
+        item.put("percentage", spent.divide(budget.budgetAmount(), 4, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100)).intValue());
+        return item;
+    }
+
+    private void publishSpendingChanged(Budget budget, Long userId) {
+        eventPublisher.publishEvent(new SpendingChangedEvent(
+                userId, budget.getCategory(), budget.getYear(), budget.getMonth()));
+    }
+}
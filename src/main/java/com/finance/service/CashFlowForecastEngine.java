@@ -0,0 +1,136 @@
+package com.finance.service;
+
+import com.finance.model.Income;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Day-bucket arithmetic behind the cash-flow forecast. Every day of the horizon is one slot in a
+ * {@code long[]} of cents, so a multi-year projection is a few thousand array writes rather than
+ * a BigDecimal per day and per income.
+ */
+public final class CashFlowForecastEngine {
+
+    private CashFlowForecastEngine() {
+    }
+
+    /**
+     * The inputs of a forecast that do not depend on the current balance: income and spending per
+     * day from {@code from}, plus the category averages the spending was derived from. The arrays
+     * are never modified after construction.
+     */
+    public record Profile(LocalDate from, long[] incomeCents, long[] spendingCents,
+                          Map<String, BigDecimal> averageMonthlySpending) {
+    }
+
+    public static Profile profile(LocalDate from, int days, List<Income> recurringIncomes,
+                                  Map<String, BigDecimal> averageMonthlySpending) {
+        long monthlySpendingCents = 0;
+        for (BigDecimal amount : averageMonthlySpending.values()) {
+            monthlySpendingCents += toCents(amount);
+        }
+        return new Profile(from, incomeByDay(from, days, recurringIncomes),
+                spendingByDay(from, days, monthlySpendingCents), averageMonthlySpending);
+    }
+
+    /**
+     * Places every occurrence of each recurring income that falls in {@code [from, from + days)}
+     * into its day. Occurrences are counted from the income's transaction date; monthly,
+     * quarterly and yearly ones keep that day of month, clamped in shorter months.
+     */
+    public static long[] incomeByDay(LocalDate from, int days, List<Income> recurringIncomes) {
+        long[] buckets = new long[days];
+        for (Income income : recurringIncomes) {
+            long cents = toCents(income.getAmount());
+            LocalDate anchor = income.getTransactionDate();
+            switch (income.getFrequency()) {
+                case DAILY -> addEvery(buckets, from, anchor, 1, cents);
+                case WEEKLY -> addEvery(buckets, from, anchor, 7, cents);
+                case BIWEEKLY -> addEvery(buckets, from, anchor, 14, cents);
+                case MONTHLY -> addEveryMonths(buckets, from, anchor, 1, cents);
+                case QUARTERLY -> addEveryMonths(buckets, from, anchor, 3, cents);
+                case YEARLY -> addEveryMonths(buckets, from, anchor, 12, cents);
+                case ONE_TIME -> addEvery(buckets, from, anchor, buckets.length + 1, cents);
+            }
+        }
+        return buckets;
+    }
+
+    /**
+     * Spreads a monthly amount evenly over the days of each calendar month, handing the
+     * leftover cents to the first days so every full month adds up exactly.
+     */
+    public static long[] spendingByDay(LocalDate from, int days, long monthlyCents) {
+        long[] buckets = new long[days];
+        if (monthlyCents == 0) {
+            return buckets;
+        }
+        int index = 0;
+        LocalDate date = from;
+        while (index < days) {
+            int monthLength = date.lengthOfMonth();
+            long perDay = monthlyCents / monthLength;
+            long remainder = monthlyCents % monthLength;
+            int dayOfMonth = date.getDayOfMonth();
+            int run = Math.min(monthLength - dayOfMonth + 1, days - index);
+            for (int d = 0; d < run; d++) {
+                buckets[index + d] = perDay + (dayOfMonth + d <= remainder ? 1 : 0);
+            }
+            index += run;
+            date = date.plusDays(run);
+        }
+        return buckets;
+    }
+
+    /**
+     * End-of-day balances: {@code balances[i]} is the balance after day {@code from + i}.
+     */
+    public static long[] balances(long startingCents, long[] incomeCents, long[] spendingCents) {
+        long[] balances = new long[incomeCents.length];
+        long balance = startingCents;
+        for (int i = 0; i < balances.length; i++) {
+            balance += incomeCents[i] - spendingCents[i];
+            balances[i] = balance;
+        }
+        return balances;
+    }
+
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private static void addEvery(long[] buckets, LocalDate from, LocalDate anchor, int periodDays, long cents) {
+        long offset = ChronoUnit.DAYS.between(from, anchor);
+        if (offset < 0) {
+            if (periodDays > buckets.length) {
+                return;
+            }
+            offset = Math.floorMod(offset, periodDays);
+        }
+        for (long i = offset; i < buckets.length; i += periodDays) {
+            buckets[(int) i] += cents;
+        }
+    }
+
+    private static void addEveryMonths(long[] buckets, LocalDate from, LocalDate anchor, int periodMonths, long cents) {
+        LocalDate end = from.plusDays(buckets.length);
+        long k = Math.max(0, ChronoUnit.MONTHS.between(anchor, from) / periodMonths - 1);
+        LocalDate date = anchor.plusMonths(k * periodMonths);
+        while (date.isBefore(end)) {
+            if (!date.isBefore(from)) {
+                buckets[(int) ChronoUnit.DAYS.between(from, date)] += cents;
+            }
+            k++;
+            date = anchor.plusMonths(k * periodMonths);
+        }
+    }
+}
@@ -1,30 +1,80 @@
 package com.finance.service;
 
 import com.finance.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.finance.repository.UserRepository;
+import com.finance.security.AuthenticatedUser;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.time.Duration;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Value("${finance.security.user-cache-size:10000}")
+    private int userCacheSize;
+
+    @Value("${finance.security.user-cache-ttl-minutes:10}")
+    private long userCacheTtlMinutes;
+
+    // Lock-free reads; the TTL bounds how long a change made outside evict() can go unnoticed.
+    private Cache<String, CachedUser> usersByEmail;
+
+    @PostConstruct
+    void init() {
+        usersByEmail = Caffeine.newBuilder()
+                .maximumSize(userCacheSize)
+                .expireAfterWrite(Duration.ofMinutes(userCacheTtlMinutes))
+                .build();
+    }
+
+    // No transaction: a cache hit takes no connection, and a miss runs outside any read-only
+    // transaction, so it reads the primary, where a user who just registered already exists.
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
-
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPassword(),
-                new ArrayList<>()
-        );
+        CachedUser cached = usersByEmail.getIfPresent(email);
+        if (cached == null) {
+            User user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+            cached = new CachedUser(user.getId(), user.getEmail(), user.getPassword());
+            usersByEmail.put(email, cached);
+        }
+
+        // Always hand out a fresh principal: Spring Security erases credentials on the
+        // instance it authenticates, which must not reach the cached copy.
+        return new AuthenticatedUser(cached.id(), cached.email(), cached.password());
+    }
+
+    /**
+     * Stores a password re-hashed at the current bcrypt cost after a successful login.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        evict(user.getUsername());
+        return new AuthenticatedUser(((AuthenticatedUser) user).getId(), user.getUsername(), newPassword);
+    }
+
+    /**
+     * Drops the cached entry for a user whose row was created, changed or removed.
+     */
+    public void evict(String email) {
+        usersByEmail.invalidate(email);
+    }
+
+    private record CachedUser(Long id, String email, String password) {
     }
 }
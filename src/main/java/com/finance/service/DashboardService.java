@@ -0,0 +1,105 @@
+package com.finance.service;
+
+import com.finance.dto.BudgetView;
+import com.finance.model.MonthlySummary;
+import com.finance.repository.BudgetRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the monthly dashboard from independent lookups that run concurrently on the
+ * bounded {@code dashboardExecutor}, so the response takes as long as the slowest one.
+ */
+@Service
+public class DashboardService {
+
+    @Autowired
+    private MonthlySummaryService monthlySummaryService;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private BudgetService budgetService;
+
+    @Autowired
+    @Qualifier("dashboardExecutor")
+    private Executor dashboardExecutor;
+
+    @Value("${finance.dashboard.timeout-ms:5000}")
+    private long timeoutMs;
+
+    public Map<String, Object> getDashboard(Long userId, int month, int year, int topCategories) throws Exception {
+        YearMonth.of(year, month);
+
+        CompletableFuture<Map<MonthlySummary.Kind, List<MonthlySummary>>> summaries = CompletableFuture.supplyAsync(
+                () -> monthlySummaryService.getMonth(userId, month, year), dashboardExecutor);
+        CompletableFuture<List<BudgetView>> budgets = CompletableFuture.supplyAsync(
+                () -> budgetRepository.findByUserIdAndMonthAndYear(userId, month, year), dashboardExecutor);
+
+        CompletableFuture.allOf(summaries, budgets).get(timeoutMs, TimeUnit.MILLISECONDS);
+
+        List<MonthlySummary> expenses = summaries.join().get(MonthlySummary.Kind.EXPENSE);
+        BigDecimal totalIncome = total(summaries.join().get(MonthlySummary.Kind.INCOME));
+        BigDecimal totalExpenses = total(expenses);
+
+        Map<String, BigDecimal> spentByCategory = new HashMap<>();
+        for (MonthlySummary summary : expenses) {
+            spentByCategory.put(summary.getCategory(), summary.getTotalAmount());
+        }
+
+        List<Map<String, Object>> topCategoryList = expenses.stream()
+                .sorted(Comparator.comparing(MonthlySummary::getTotalAmount).reversed())
+                .limit(topCategories)
+                .map(summary -> {
+                    Map<String, Object> item = new LinkedHashMap<>();
+                    item.put("category", summary.getCategory());
+                    item.put("total", summary.getTotalAmount());
+                    item.put("transactionCount", summary.getTransactionCount());
+                    return item;
+                })
+                .collect(Collectors.toList());
+
+        List<Map<String, Object>> budgetStatus = new ArrayList<>();
+        BigDecimal totalBudget = BigDecimal.ZERO;
+        for (BudgetView budget : budgets.join()) {
+            totalBudget = totalBudget.add(budget.budgetAmount());
+            budgetStatus.add(budgetService.progressItem(budget,
+                    spentByCategory.getOrDefault(budget.category(), BigDecimal.ZERO)));
+        }
+
+        Map<String, Object> dashboard = new LinkedHashMap<>();
+        dashboard.put("month", month);
+        dashboard.put("year", year);
+        dashboard.put("totalIncome", totalIncome);
+        dashboard.put("totalExpenses", totalExpenses);
+        dashboard.put("net", totalIncome.subtract(totalExpenses));
+        dashboard.put("totalBudget", totalBudget);
+        dashboard.put("topCategories", topCategoryList);
+        dashboard.put("budgets", budgetStatus);
+        return dashboard;
+    }
+
+    private BigDecimal total(List<MonthlySummary> summaries) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (MonthlySummary summary : summaries) {
+            total = total.add(summary.getTotalAmount());
+        }
+        return total;
+    }
+}
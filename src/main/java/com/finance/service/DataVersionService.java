@@ -0,0 +1,61 @@
+package com.finance.service;
+
+import com.finance.repository.DataVersionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Per-user data version, bumped by every expense, income and budget write and served as a
+ * strong ETag. The version lives in data_versions and is bumped in the write's own transaction,
+ * so every instance sees it as soon as the write commits.
+ */
+@Service
+public class DataVersionService {
+
+    private static final String CURRENT =
+            "SELECT version, last_write_millis FROM data_versions WHERE user_id = ?";
+
+    @Autowired
+    private DataVersionRepository dataVersionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * A user's version and the time of their last write; a user who never wrote is at version 0.
+     */
+    public record Version(Long userId, long version, long lastWriteMillis) {
+
+        public String etag() {
+            return "\"" + userId + "-" + version + "\"";
+        }
+
+        /**
+         * Whether the user committed a write in the last {@code millis} milliseconds.
+         */
+        public boolean wroteWithin(long millis) {
+            return System.currentTimeMillis() - lastWriteMillis < millis;
+        }
+    }
+
+    /**
+     * Reads the version from the primary: an auto-commit lookup outside any transaction, so it
+     * never waits for a replica to catch up and never opens a transaction of its own.
+     */
+    public Version current(Long userId) {
+        List<Version> rows = jdbcTemplate.query(CURRENT,
+                (rs, rowNum) -> new Version(userId, rs.getLong("version"), rs.getLong("last_write_millis")), userId);
+        return rows.isEmpty() ? new Version(userId, 0, 0) : rows.get(0);
+    }
+
+    /**
+     * Advances the user's version as part of the current transaction, so a reader can never pair
+     * the new tag with data from before the write.
+     */
+    public void bump(Long userId) {
+        dataVersionRepository.bump(userId, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,225 @@
+package com.finance.service;
+
+import com.finance.dto.CursorPage;
+import com.finance.dto.ExpenseView;
+import com.finance.model.Expense;
+import com.finance.model.SearchTokens;
+import com.finance.model.User;
+import com.finance.repository.ArchivedExpenseRepository;
+import com.finance.repository.ExpenseRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Expense write paths, plus the listings that span the hot and archive tables. Each write
+ * updates the expenses table and the monthly rollup in one transaction.
+ */
+@Service
+public class ExpenseService {
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    private static final Comparator<ExpenseView> NEWEST_FIRST =
+            Comparator.comparing(ExpenseView::transactionDate).thenComparing(ExpenseView::id).reversed();
+
+    @Autowired
+    private ArchivedExpenseRepository archivedExpenseRepository;
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private MonthlySummaryService monthlySummaryService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${finance.bulk-delete.chunk-size:1000}")
+    private int chunkSize;
+
+    @Transactional
+    public Expense create(User user, Expense expense) {
+        expense.setUser(user);
+        Expense savedExpense = expenseRepository.save(expense);
+        monthlySummaryService.addExpense(user.getId(), savedExpense);
+        dataVersionService.bump(user.getId());
+        return savedExpense;
+    }
+
+    /**
+     * Applies {@code details} to one of the user's expenses with a single owner-scoped UPDATE. The row
+     * is read under a write lock first, for the old values the monthly rollup has to take back out.
+     *
+     * @return the updated expense, or empty if the user has no expense with this id
+     */
+    @Transactional
+    public Optional<ExpenseView> update(Long userId, Long id, Expense details) {
+        Optional<ExpenseView> current = lockOwned(userId, id);
+        if (current.isEmpty()) {
+            return Optional.empty();
+        }
+        if (expenseRepository.updateByIdAndUserId(id, userId, details.getAmount(), details.getCategory(),
+                details.getDescription(), details.getTransactionDate(),
+                SearchTokens.of(userId, details.getDescription(), details.getCategory())) == 0) {
+            return Optional.empty();
+        }
+        ExpenseView updated = new ExpenseView(id, details.getAmount(), details.getCategory(), details.getDescription(),
+                details.getTransactionDate(), current.get().createdAt());
+        monthlySummaryService.removeExpense(userId, current.get());
+        monthlySummaryService.addExpense(userId, updated);
+        dataVersionService.bump(userId);
+        return Optional.of(updated);
+    }
+
+    /**
+     * @return false if the user has no expense with this id
+     */
+    @Transactional
+    public boolean delete(Long userId, Long id) {
+        Optional<ExpenseView> current = lockOwned(userId, id);
+        if (current.isEmpty()) {
+            return false;
+        }
+        if (expenseRepository.deleteByIdAndUserId(id, userId) == 0) {
+            return false;
+        }
+        monthlySummaryService.removeExpense(userId, current.get());
+        dataVersionService.bump(userId);
+        return true;
+    }
+
+    /**
+     * Deletes the user's expenses with the given ids from both tiers, one chunk per transaction. Ids
+     * that do not exist or belong to another user are skipped.
+     *
+     * @return the number of expenses deleted
+     */
+    public int deleteAll(Long userId, List<Long> ids) {
+        List<Long> distinct = ids.stream().distinct().toList();
+        int deleted = 0;
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            List<Long> chunk = distinct.subList(from, Math.min(distinct.size(), from + chunkSize));
+            deleted += transactionTemplate.execute(status -> {
+                List<ExpenseView> hot = expenseRepository.lockByUserIdAndIdIn(userId, chunk);
+                List<ExpenseView> archived = hot.size() == chunk.size()
+                        ? List.of() : archivedExpenseRepository.lockByUserIdAndIdIn(userId, chunk);
+                return deleteRows(userId, hot, archived);
+            });
+        }
+        return deleted;
+    }
+
+    /**
+     * Deletes the user's expenses dated within [startDate, endDate] from both tiers, one chunk per
+     * transaction.
+     *
+     * @return the number of expenses deleted
+     */
+    public int deleteAllBetween(Long userId, LocalDate startDate, LocalDate endDate) {
+        PageRequest chunk = PageRequest.of(0, chunkSize);
+        int deleted = 0;
+        int removed;
+        do {
+            removed = transactionTemplate.execute(status -> deleteRows(userId,
+                    expenseRepository.lockByUserIdAndTransactionDateBetween(userId, startDate, endDate, chunk), List.of()));
+            deleted += removed;
+        } while (removed == chunkSize);
+        if (archiveService.reaches(startDate)) {
+            do {
+                removed = transactionTemplate.execute(status -> deleteRows(userId, List.of(),
+                        archivedExpenseRepository.lockByUserIdAndTransactionDateBetween(userId, startDate, endDate, chunk)));
+                deleted += removed;
+            } while (removed == chunkSize);
+        }
+        return deleted;
+    }
+
+    /**
+     * Up to {@code window} expenses after the cursor position (null: from the newest), ordered by
+     * (transactionDate DESC, id DESC). The archive is only read when the hot rows run out before
+     * the archive boundary.
+     */
+    @Transactional(readOnly = true)
+    public List<ExpenseView> findPage(Long userId, CursorPage.Position after, int window) {
+        PageRequest page = PageRequest.of(0, window);
+        List<ExpenseView> hot = after == null
+                ? expenseRepository.findFirstPageByUserId(userId, page)
+                : expenseRepository.findPageByUserIdAfter(userId, after.transactionDate(), after.id(), page);
+        if (hot.size() == window && !archiveService.reaches(hot.get(window - 1).transactionDate())) {
+            return hot;
+        }
+        List<ExpenseView> archived = after == null
+                ? archivedExpenseRepository.findFirstPageByUserId(userId, page)
+                : archivedExpenseRepository.findPageByUserIdAfter(userId, after.transactionDate(), after.id(), page);
+        return ArchiveService.merge(hot, archived, NEWEST_FIRST, window);
+    }
+
+    /**
+     * The user's expenses in a category, optionally bounded by date (either bound may be null).
+     */
+    @Transactional(readOnly = true)
+    public List<ExpenseView> findByCategory(Long userId, String category, LocalDate startDate, LocalDate endDate) {
+        boolean bounded = startDate != null || endDate != null;
+        LocalDate from = startDate != null ? startDate : LocalDate.of(1000, 1, 1);
+        LocalDate to = endDate != null ? endDate : LocalDate.of(9999, 12, 31);
+        List<ExpenseView> expenses = new ArrayList<>(bounded
+                ? expenseRepository.findByUserIdAndCategoryAndTransactionDateBetween(userId, category, from, to)
+                : expenseRepository.findByUserIdAndCategory(userId, category));
+        if (archiveService.reaches(startDate)) {
+            expenses.addAll(bounded
+                    ? archivedExpenseRepository.findByUserIdAndCategoryAndTransactionDateBetween(userId, category, from, to)
+                    : archivedExpenseRepository.findByUserIdAndCategory(userId, category));
+        }
+        return expenses;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ExpenseView> findByDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
+        List<ExpenseView> expenses = new ArrayList<>(
+                expenseRepository.findByUserIdAndTransactionDateBetween(userId, startDate, endDate));
+        if (archiveService.reaches(startDate)) {
+            expenses.addAll(archivedExpenseRepository.findByUserIdAndTransactionDateBetween(userId, startDate, endDate));
+        }
+        return expenses;
+    }
+
+    // An archived expense is moved back to the hot table before it is changed.
+    private Optional<ExpenseView> lockOwned(Long userId, Long id) {
+        Optional<ExpenseView> expense = expenseRepository.lockByIdAndUserId(id, userId);
+        if (expense.isEmpty() && archiveService.restoreExpense(userId, id)) {
+            expense = expenseRepository.lockByIdAndUserId(id, userId);
+        }
+        return expense;
+    }
+
+    private int deleteRows(Long userId, List<ExpenseView> hot, List<ExpenseView> archived) {
+        if (hot.isEmpty() && archived.isEmpty()) {
+            return 0;
+        }
+        if (!hot.isEmpty()) {
+            expenseRepository.deleteByUserIdAndIdIn(userId, hot.stream().map(ExpenseView::id).toList());
+        }
+        if (!archived.isEmpty()) {
+            archivedExpenseRepository.deleteByUserIdAndIdIn(userId, archived.stream().map(ExpenseView::id).toList());
+        }
+        List<ExpenseView> rows = new ArrayList<>(hot);
+        rows.addAll(archived);
+        monthlySummaryService.removeExpenses(userId, rows);
+        dataVersionService.bump(userId);
+        return rows.size();
+    }
+}
@@ -0,0 +1,65 @@
+package com.finance.service;
+
+import com.finance.dto.CashFlowForecast;
+import com.finance.model.MonthlySummary;
+import com.finance.repository.MonthlySummaryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Cash-flow forecast: today's recorded balance (all income minus all expenses through the current
+ * month) carried forward day by day with recurring incomes and average category spending.
+ * The per-day inputs are cached by {@link AggregateCacheService}; only the balance and the
+ * running sum are computed per request.
+ */
+@Service
+public class ForecastService {
+
+    public static final int DEFAULT_MONTHS = 6;
+    public static final int MAX_MONTHS = 60;
+
+    @Autowired
+    private AggregateCacheService aggregateCacheService;
+
+    @Autowired
+    private MonthlySummaryRepository monthlySummaryRepository;
+
+    @Transactional(readOnly = true)
+    public CashFlowForecast forecast(Long userId, int months) {
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.plusDays(1);
+        int days = (int) ChronoUnit.DAYS.between(from, from.plusMonths(Math.max(1, Math.min(months, MAX_MONTHS))));
+
+        CashFlowForecastEngine.Profile profile = aggregateCacheService.getCashFlowProfile(userId, today, days);
+
+        int currentMonth = today.getYear() * 12 + today.getMonthValue();
+        BigDecimal income = monthlySummaryRepository.sumUpToMonth(userId, MonthlySummary.Kind.INCOME, currentMonth);
+        BigDecimal spent = monthlySummaryRepository.sumUpToMonth(userId, MonthlySummary.Kind.EXPENSE, currentMonth);
+        long startingCents = CashFlowForecastEngine.toCents(income.subtract(spent));
+
+        long[] balances = CashFlowForecastEngine.balances(
+                startingCents, profile.incomeCents(), profile.spendingCents());
+        int lowest = 0;
+        for (int i = 1; i < balances.length; i++) {
+            if (balances[i] < balances[lowest]) {
+                lowest = i;
+            }
+        }
+
+        CashFlowForecast forecast = new CashFlowForecast();
+        forecast.setStartDate(from);
+        forecast.setEndDate(from.plusDays(days - 1));
+        forecast.setStartingBalance(CashFlowForecastEngine.fromCents(startingCents));
+        forecast.setEndingBalance(CashFlowForecastEngine.fromCents(balances[balances.length - 1]));
+        forecast.setLowestBalance(CashFlowForecastEngine.fromCents(balances[lowest]));
+        forecast.setLowestBalanceDate(from.plusDays(lowest));
+        forecast.setAverageMonthlySpending(profile.averageMonthlySpending());
+        forecast.setBalanceCents(balances);
+        return forecast;
+    }
+}
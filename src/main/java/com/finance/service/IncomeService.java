@@ -0,0 +1,191 @@
+package com.finance.service;
+
+import com.finance.dto.CursorPage;
+import com.finance.dto.IncomeView;
+import com.finance.model.Income;
+import com.finance.model.SearchTokens;
+import com.finance.model.User;
+import com.finance.repository.ArchivedIncomeRepository;
+import com.finance.repository.IncomeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Income write paths, plus the listing that spans the hot and archive tables. Each write
+ * updates the incomes table and the monthly rollup in one transaction.
+ */
+@Service
+public class IncomeService {
+
+    @Autowired
+    private IncomeRepository incomeRepository;
+
+    private static final Comparator<IncomeView> NEWEST_FIRST =
+            Comparator.comparing(IncomeView::transactionDate).thenComparing(IncomeView::id).reversed();
+
+    @Autowired
+    private ArchivedIncomeRepository archivedIncomeRepository;
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private MonthlySummaryService monthlySummaryService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${finance.bulk-delete.chunk-size:1000}")
+    private int chunkSize;
+
+    @Transactional
+    public Income create(User user, Income income) {
+        income.setUser(user);
+        Income savedIncome = incomeRepository.save(income);
+        monthlySummaryService.addIncome(user.getId(), savedIncome);
+        dataVersionService.bump(user.getId());
+        return savedIncome;
+    }
+
+    /**
+     * Applies {@code details} to one of the user's incomes with a single owner-scoped UPDATE. The row
+     * is read under a write lock first, for the old values the monthly rollup has to take back out.
+     *
+     * @return the updated income, or empty if the user has no income with this id
+     */
+    @Transactional
+    public Optional<IncomeView> update(Long userId, Long id, Income details) {
+        Optional<IncomeView> current = lockOwned(userId, id);
+        if (current.isEmpty()) {
+            return Optional.empty();
+        }
+        if (incomeRepository.updateByIdAndUserId(id, userId, details.getAmount(), details.getSource(),
+                details.getDescription(), details.getFrequency(), details.getTransactionDate(), details.isRecurring(),
+                SearchTokens.of(userId, details.getDescription(), details.getSource())) == 0) {
+            return Optional.empty();
+        }
+        IncomeView updated = new IncomeView(id, details.getAmount(), details.getSource(), details.getDescription(),
+                details.getFrequency(), details.getTransactionDate(), details.isRecurring(), current.get().createdAt());
+        monthlySummaryService.removeIncome(userId, current.get());
+        monthlySummaryService.addIncome(userId, updated);
+        dataVersionService.bump(userId);
+        return Optional.of(updated);
+    }
+
+    /**
+     * @return false if the user has no income with this id
+     */
+    @Transactional
+    public boolean delete(Long userId, Long id) {
+        Optional<IncomeView> current = lockOwned(userId, id);
+        if (current.isEmpty()) {
+            return false;
+        }
+        if (incomeRepository.deleteByIdAndUserId(id, userId) == 0) {
+            return false;
+        }
+        monthlySummaryService.removeIncome(userId, current.get());
+        dataVersionService.bump(userId);
+        return true;
+    }
+
+    /**
+     * Deletes the user's incomes with the given ids from both tiers, one chunk per transaction. Ids
+     * that do not exist or belong to another user are skipped.
+     *
+     * @return the number of incomes deleted
+     */
+    public int deleteAll(Long userId, List<Long> ids) {
+        List<Long> distinct = ids.stream().distinct().toList();
+        int deleted = 0;
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            List<Long> chunk = distinct.subList(from, Math.min(distinct.size(), from + chunkSize));
+            deleted += transactionTemplate.execute(status -> {
+                List<IncomeView> hot = incomeRepository.lockByUserIdAndIdIn(userId, chunk);
+                List<IncomeView> archived = hot.size() == chunk.size()
+                        ? List.of() : archivedIncomeRepository.lockByUserIdAndIdIn(userId, chunk);
+                return deleteRows(userId, hot, archived);
+            });
+        }
+        return deleted;
+    }
+
+    /**
+     * Deletes the user's incomes dated within [startDate, endDate] from both tiers, one chunk per
+     * transaction.
+     *
+     * @return the number of incomes deleted
+     */
+    public int deleteAllBetween(Long userId, LocalDate startDate, LocalDate endDate) {
+        PageRequest chunk = PageRequest.of(0, chunkSize);
+        int deleted = 0;
+        int removed;
+        do {
+            removed = transactionTemplate.execute(status -> deleteRows(userId,
+                    incomeRepository.lockByUserIdAndTransactionDateBetween(userId, startDate, endDate, chunk), List.of()));
+            deleted += removed;
+        } while (removed == chunkSize);
+        if (archiveService.reaches(startDate)) {
+            do {
+                removed = transactionTemplate.execute(status -> deleteRows(userId, List.of(),
+                        archivedIncomeRepository.lockByUserIdAndTransactionDateBetween(userId, startDate, endDate, chunk)));
+                deleted += removed;
+            } while (removed == chunkSize);
+        }
+        return deleted;
+    }
+
+    @Transactional(readOnly = true)
+    public List<IncomeView> findPage(Long userId, CursorPage.Position after, int window) {
+        PageRequest page = PageRequest.of(0, window);
+        List<IncomeView> hot = after == null
+                ? incomeRepository.findFirstPageByUserId(userId, page)
+                : incomeRepository.findPageByUserIdAfter(userId, after.transactionDate(), after.id(), page);
+        if (hot.size() == window && !archiveService.reaches(hot.get(window - 1).transactionDate())) {
+            return hot;
+        }
+        List<IncomeView> archived = after == null
+                ? archivedIncomeRepository.findFirstPageByUserId(userId, page)
+                : archivedIncomeRepository.findPageByUserIdAfter(userId, after.transactionDate(), after.id(), page);
+        return ArchiveService.merge(hot, archived, NEWEST_FIRST, window);
+    }
+
+    // An archived income is moved back to the hot table before it is changed.
+    private Optional<IncomeView> lockOwned(Long userId, Long id) {
+        Optional<IncomeView> income = incomeRepository.lockByIdAndUserId(id, userId);
+        if (income.isEmpty() && archiveService.restoreIncome(userId, id)) {
+            income = incomeRepository.lockByIdAndUserId(id, userId);
+        }
+        return income;
+    }
+
+    private int deleteRows(Long userId, List<IncomeView> hot, List<IncomeView> archived) {
+        if (hot.isEmpty() && archived.isEmpty()) {
+            return 0;
+        }
+        if (!hot.isEmpty()) {
+            incomeRepository.deleteByUserIdAndIdIn(userId, hot.stream().map(IncomeView::id).toList());
+        }
+        if (!archived.isEmpty()) {
+            archivedIncomeRepository.deleteByUserIdAndIdIn(userId, archived.stream().map(IncomeView::id).toList());
+        }
+        List<IncomeView> rows = new ArrayList<>(hot);
+        rows.addAll(archived);
+        monthlySummaryService.removeIncomes(userId, rows);
+        dataVersionService.bump(userId);
+        return rows.size();
+    }
+}
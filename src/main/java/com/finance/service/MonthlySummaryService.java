@@ -0,0 +1,235 @@
+package com.finance.service;
+
+import com.finance.dto.ExpenseView;
+import com.finance.dto.IncomeView;
+import com.finance.event.SpendingChangedEvent;
+import com.finance.model.Expense;
+import com.finance.model.Income;
+import com.finance.model.MonthlySummary;
+import com.finance.repository.MonthlySummaryRepository;
+import com.finance.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the monthly_summaries rollup in step with expense and income writes.
+ * The add/remove methods must run inside the caller's write transaction so the
+ * rollup can never commit without the row change that produced it.
+ */
+@Service
+public class MonthlySummaryService {
+
+    @Autowired
+    private MonthlySummaryRepository monthlySummaryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private AggregateCacheService aggregateCacheService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addExpense(Long userId, Expense expense) {
+        apply(userId, MonthlySummary.Kind.EXPENSE, expense.getTransactionDate(), expense.getCategory(),
+                expense.getAmount(), 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeExpense(Long userId, Expense expense) {
+        apply(userId, MonthlySummary.Kind.EXPENSE, expense.getTransactionDate(), expense.getCategory(),
+                expense.getAmount().negate(), -1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addExpense(Long userId, ExpenseView expense) {
+        apply(userId, MonthlySummary.Kind.EXPENSE, expense.transactionDate(), expense.category(),
+                expense.amount(), 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeExpense(Long userId, ExpenseView expense) {
+        apply(userId, MonthlySummary.Kind.EXPENSE, expense.transactionDate(), expense.category(),
+                expense.amount().negate(), -1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addIncome(Long userId, Income income) {
+        apply(userId, MonthlySummary.Kind.INCOME, income.getTransactionDate(), income.getSource(),
+                income.getAmount(), 1);
+        if (income.isRecurring()) {
+            aggregateCacheService.evictForecasts(userId);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeIncome(Long userId, Income income) {
+        apply(userId, MonthlySummary.Kind.INCOME, income.getTransactionDate(), income.getSource(),
+                income.getAmount().negate(), -1);
+        if (income.isRecurring()) {
+            aggregateCacheService.evictForecasts(userId);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addIncome(Long userId, IncomeView income) {
+        apply(userId, MonthlySummary.Kind.INCOME, income.transactionDate(), income.source(),
+                income.amount(), 1);
+        if (income.recurring()) {
+            aggregateCacheService.evictForecasts(userId);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeIncome(Long userId, IncomeView income) {
+        apply(userId, MonthlySummary.Kind.INCOME, income.transactionDate(), income.source(),
+                income.amount().negate(), -1);
+        if (income.recurring()) {
+            aggregateCacheService.evictForecasts(userId);
+        }
+    }
+
+    /**
+     * Applies a whole imported chunk as one upsert per (month, category) instead of one per row.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addExpenses(Long userId, List<Expense> expenses) {
+        Map<RollupKey, Delta> deltas = new HashMap<>();
+        for (Expense expense : expenses) {
+            accumulate(deltas, expense.getTransactionDate(), expense.getCategory(), expense.getAmount(), 1);
+        }
+        applyAll(userId, MonthlySummary.Kind.EXPENSE, deltas);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addIncomes(Long userId, List<Income> incomes) {
+        Map<RollupKey, Delta> deltas = new HashMap<>();
+        boolean recurring = false;
+        for (Income income : incomes) {
+            accumulate(deltas, income.getTransactionDate(), income.getSource(), income.getAmount(), 1);
+            recurring |= income.isRecurring();
+        }
+        applyAll(userId, MonthlySummary.Kind.INCOME, deltas);
+        if (recurring) {
+            aggregateCacheService.evictForecasts(userId);
+        }
+    }
+
+    /**
+     * Takes a whole chunk of deleted rows out of the rollup, one upsert per (month, category).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeExpenses(Long userId, List<ExpenseView> expenses) {
+        Map<RollupKey, Delta> deltas = new HashMap<>();
+        for (ExpenseView expense : expenses) {
+            accumulate(deltas, expense.transactionDate(), expense.category(), expense.amount().negate(), -1);
+        }
+        applyAll(userId, MonthlySummary.Kind.EXPENSE, deltas);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeIncomes(Long userId, List<IncomeView> incomes) {
+        Map<RollupKey, Delta> deltas = new HashMap<>();
+        boolean recurring = false;
+        for (IncomeView income : incomes) {
+            accumulate(deltas, income.transactionDate(), income.source(), income.amount().negate(), -1);
+            recurring |= income.recurring();
+        }
+        applyAll(userId, MonthlySummary.Kind.INCOME, deltas);
+        if (recurring) {
+            aggregateCacheService.evictForecasts(userId);
+        }
+    }
+
+    public Map<MonthlySummary.Kind, List<MonthlySummary>> getMonth(Long userId, int month, int year) {
+        return aggregateCacheService.getSummaries(userId, month, year);
+    }
+
+    /**
+     * Recomputes one user's rollup from the expense and income tables, hot and archived,
+     * discarding any drift.
+     */
+    @Transactional
+    public void rebuild(Long userId) {
+        monthlySummaryRepository.deleteByUserId(userId);
+        monthlySummaryRepository.rebuildExpensesForUser(userId);
+        monthlySummaryRepository.rebuildIncomesForUser(userId);
+        aggregateCacheService.evictUser(userId);
+        dataVersionService.bump(userId);
+    }
+
+    /**
+     * Rebuilds every user's rollup, one transaction per user so a large tenant base never
+     * holds a single long-running transaction.
+     */
+    public int rebuildAll() {
+        List<Long> userIds = userRepository.findAllIds();
+        for (Long userId : userIds) {
+            transactionTemplate.executeWithoutResult(status -> rebuild(userId));
+        }
+        return userIds.size();
+    }
+
+    private void accumulate(Map<RollupKey, Delta> deltas, LocalDate date, String category, BigDecimal amount,
+                            long count) {
+        Delta delta = deltas.computeIfAbsent(
+                new RollupKey(date.getYear(), date.getMonthValue(), category), key -> new Delta());
+        delta.amount = delta.amount.add(amount);
+        delta.count += count;
+    }
+
+    private void applyAll(Long userId, MonthlySummary.Kind kind, Map<RollupKey, Delta> deltas) {
+        deltas.forEach((key, delta) -> {
+            monthlySummaryRepository.applyDelta(
+                    userId, kind.name(), key.year(), key.month(), key.category(), delta.amount, delta.count);
+            if (delta.count < 0) {
+                monthlySummaryRepository.deleteIfEmpty(userId, kind, key.year(), key.month(), key.category());
+            }
+            aggregateCacheService.evictMonth(userId, key.year(), key.month());
+            publishSpendingChanged(userId, kind, key.category(), key.year(), key.month());
+        });
+    }
+
+    private void apply(Long userId, MonthlySummary.Kind kind, LocalDate date, String category,
+                       BigDecimal amount, long count) {
+        monthlySummaryRepository.applyDelta(userId, kind.name(), date.getYear(), date.getMonthValue(),
+                category, amount, count);
+        if (count < 0) {
+            monthlySummaryRepository.deleteIfEmpty(userId, kind, date.getYear(), date.getMonthValue(), category);
+        }
+        aggregateCacheService.evictMonth(userId, date.getYear(), date.getMonthValue());
+        publishSpendingChanged(userId, kind, category, date.getYear(), date.getMonthValue());
+    }
+
+    private void publishSpendingChanged(Long userId, MonthlySummary.Kind kind, String category, int year, int month) {
+        if (kind == MonthlySummary.Kind.EXPENSE) {
+            eventPublisher.publishEvent(new SpendingChangedEvent(userId, category, year, month));
+        }
+    }
+
+    private record RollupKey(int year, int month, String category) {
+    }
+
+    private static class Delta {
+        private BigDecimal amount = BigDecimal.ZERO;
+        private long count;
+    }
+}
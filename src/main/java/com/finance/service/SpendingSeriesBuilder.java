@@ -0,0 +1,156 @@
+package com.finance.service;
+
+import com.finance.dto.SpendingSeries;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Merges pre-aggregated (date, category, total) rows into one {@code long[]} of cents per
+ * category, indexed by bucket. Amounts are DECIMAL(10, 2) sums, so the conversion to cents is
+ * exact and the series adds up to the same totals as the stored amounts.
+ */
+public final class SpendingSeriesBuilder {
+
+    public enum Granularity {
+        DAY, WEEK, MONTH;
+
+        /**
+         * First day of the bucket containing {@code date}; weeks start on Monday.
+         */
+        public LocalDate bucketStart(LocalDate date) {
+            return switch (this) {
+                case DAY -> date;
+                case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTH -> date.withDayOfMonth(1);
+            };
+        }
+
+        public LocalDate next(LocalDate bucketStart) {
+            return switch (this) {
+                case DAY -> bucketStart.plusDays(1);
+                case WEEK -> bucketStart.plusWeeks(1);
+                case MONTH -> bucketStart.plusMonths(1);
+            };
+        }
+
+        long index(LocalDate first, LocalDate date) {
+            return switch (this) {
+                case DAY -> ChronoUnit.DAYS.between(first, date);
+                case WEEK -> ChronoUnit.DAYS.between(first, date) / 7;
+                case MONTH -> ChronoUnit.MONTHS.between(first, date.withDayOfMonth(1));
+            };
+        }
+
+        public static Granularity parse(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported granularity: " + value);
+            }
+        }
+    }
+
+    // Ten years of daily buckets.
+    public static final int MAX_BUCKETS = 3660;
+
+    private final Granularity granularity;
+    private final LocalDate first;
+    private final LocalDate last;
+    private final int bucketCount;
+    private final Map<String, Integer> categoryIndex = new HashMap<>();
+    private final List<String> categories = new ArrayList<>();
+    private final List<long[]> cents = new ArrayList<>();
+
+    /**
+     * Covers whole buckets: {@code startDate} and {@code endDate} are widened to the start and end
+     * of the buckets containing them.
+     */
+    public SpendingSeriesBuilder(Granularity granularity, LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate is before startDate");
+        }
+        this.granularity = granularity;
+        this.first = granularity.bucketStart(startDate);
+        this.last = granularity.next(granularity.bucketStart(endDate)).minusDays(1);
+        long buckets = granularity.index(first, endDate) + 1;
+        if (buckets > MAX_BUCKETS) {
+            throw new IllegalArgumentException("Range too large: " + buckets + " buckets, at most " + MAX_BUCKETS);
+        }
+        this.bucketCount = (int) buckets;
+    }
+
+    public LocalDate getStartDate() {
+        return first;
+    }
+
+    /**
+     * Last day of the last bucket.
+     */
+    public LocalDate getEndDate() {
+        return last;
+    }
+
+    public void add(LocalDate date, String category, BigDecimal total) {
+        long index = granularity.index(first, date);
+        if (index < 0 || index >= bucketCount) {
+            throw new IllegalArgumentException("Date outside the series: " + date);
+        }
+        Integer row = categoryIndex.get(category);
+        if (row == null) {
+            row = categories.size();
+            categoryIndex.put(category, row);
+            categories.add(category);
+            cents.add(new long[bucketCount]);
+        }
+        cents.get(row)[(int) index] += total.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    public SpendingSeries build() {
+        Integer[] order = new Integer[categories.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(categories::get));
+
+        List<String> sortedCategories = new ArrayList<>(order.length);
+        long[][] sortedCents = new long[order.length][];
+        long[] totals = new long[bucketCount];
+        for (int i = 0; i < order.length; i++) {
+            sortedCategories.add(categories.get(order[i]));
+            long[] row = cents.get(order[i]);
+            sortedCents[i] = row;
+            for (int b = 0; b < bucketCount; b++) {
+                totals[b] += row[b];
+            }
+        }
+
+        List<LocalDate> buckets = new ArrayList<>(bucketCount);
+        LocalDate bucket = first;
+        for (int b = 0; b < bucketCount; b++) {
+            buckets.add(bucket);
+            bucket = granularity.next(bucket);
+        }
+
+        SpendingSeries series = new SpendingSeries();
+        series.setGranularity(granularity.name());
+        series.setStartDate(first);
+        series.setEndDate(last);
+        series.setBuckets(buckets);
+        series.setCategories(sortedCategories);
+        series.setCents(sortedCents);
+        series.setTotalCents(totals);
+        return series;
+    }
+}
@@ -0,0 +1,262 @@
+package com.finance.service;
+
+import com.finance.model.SearchTokens;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Fills users, expenses, incomes and budgets with reproducible, realistic-looking data for
+ * capacity planning and load tests. Everything derives from one random seed: per-user activity is
+ * log-normal (a few heavy users, many light ones), amounts are log-normal per category, weekends
+ * are busier, and every user pays rent and receives a monthly salary. Rows are written with JDBC
+ * batches (multi-row inserts on MySQL), one transaction per batch, and the monthly rollup is
+ * rebuilt at the end.
+ */
+@Service
+public class SyntheticDataGenerator {
+
+    public static final String EMAIL_DOMAIN = "@example.com";
+    public static final String EMAIL_PREFIX = "seed-";
+
+    private static final String INSERT_USER =
+            "INSERT INTO users (email, password, full_name, email_verified, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_EXPENSE =
+            "INSERT INTO expenses (user_id, amount, category, description, transaction_date, created_at, search_tokens) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_INCOME =
+            "INSERT INTO incomes (user_id, amount, source, description, frequency, transaction_date, recurring, created_at, " +
+            "search_tokens) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_BUDGET =
+            "INSERT INTO budgets (user_id, category, budget_amount, month, year, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    // Category, share of day-to-day expenses, median amount, log-normal sigma, merchants
+    private static final Category[] CATEGORIES = {
+            new Category("Groceries", 0.27, 42, 0.6, "Walmart", "Costco", "Trader Joe's", "Whole Foods", "Kroger"),
+            new Category("Dining", 0.18, 24, 0.7, "Starbucks", "Chipotle", "Pizza Hut", "Local diner", "Sushi bar"),
+            new Category("Transportation", 0.14, 18, 0.8, "Uber", "Lyft", "Shell", "Chevron", "Metro card"),
+            new Category("Shopping", 0.14, 55, 0.9, "Amazon", "Target", "IKEA", "Best Buy", "Etsy"),
+            new Category("Entertainment", 0.10, 20, 0.8, "Netflix", "Spotify", "Cinema", "Steam", "Concert tickets"),
+            new Category("Utilities", 0.08, 85, 0.4, "Electric bill", "Water bill", "Internet", "Phone plan", "Gas bill"),
+            new Category("Healthcare", 0.05, 60, 1.0, "Pharmacy", "Dentist", "Clinic copay", "Optician", "Gym")
+    };
+
+    // Groceries, Dining, Transportation, Shopping
+    private static final int BUDGETED_CATEGORIES = 4;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MonthlySummaryService monthlySummaryService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * @param users           number of users to create
+     * @param expensesPerUser average number of expenses per user over the whole history
+     * @param months          history length, ending today
+     * @param seed            random seed; the same seed and volumes produce the same data
+     * @param batchSize       rows per JDBC batch and transaction
+     * @param password        password of every generated user
+     */
+    public record Volumes(int users, int expensesPerUser, int months, long seed, int batchSize, String password) {
+    }
+
+    public record Result(int users, long expenses, long incomes, long budgets) {
+    }
+
+    public static String email(int index) {
+        return EMAIL_PREFIX + index + EMAIL_DOMAIN;
+    }
+
+    public boolean alreadySeeded() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email = ?", Integer.class, email(0));
+        return count != null && count > 0;
+    }
+
+    public Result generate(Volumes volumes) {
+        Random random = new Random(volumes.seed());
+        LocalDate today = LocalDate.now();
+        LocalDate firstDay = today.minusMonths(volumes.months()).plusDays(1);
+        int historyDays = (int) ChronoUnit.DAYS.between(firstDay, today) + 1;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // Hash once: every seeded user shares the password, and hashing thousands would dominate.
+        String passwordHash = passwordEncoder.encode(volumes.password());
+        Batch users = new Batch(INSERT_USER, volumes.batchSize());
+        for (int i = 0; i < volumes.users(); i++) {
+            users.add(email(i), passwordHash, "Seed User " + i, true, now);
+        }
+        users.flush();
+        Map<String, Long> ids = userIds();
+
+        Batch expenses = new Batch(INSERT_EXPENSE, volumes.batchSize());
+        Batch incomes = new Batch(INSERT_INCOME, volumes.batchSize());
+        Batch budgets = new Batch(INSERT_BUDGET, volumes.batchSize());
+        for (int i = 0; i < volumes.users(); i++) {
+            Long userId = ids.get(email(i));
+            double activity = Math.exp(random.nextGaussian() * 0.6 - 0.18);
+
+            // Rent on the 1st of every month
+            BigDecimal rent = amount(random, 1200, 0.35);
+            for (LocalDate month = firstDay.withDayOfMonth(1); !month.isAfter(today); month = month.plusMonths(1)) {
+                if (!month.isBefore(firstDay)) {
+                    expenses.add(userId, rent, "Rent", "Monthly rent", Date.valueOf(month), now,
+                            SearchTokens.of(userId, "Monthly rent", "Rent"));
+                }
+            }
+
+            int count = (int) Math.round(volumes.expensesPerUser() * activity) - volumes.months();
+            for (int n = 0; n < count; n++) {
+                Category category = pickCategory(random);
+                String description = random.nextInt(5) == 0 ? null
+                        : category.merchants()[random.nextInt(category.merchants().length)];
+                expenses.add(userId, amount(random, category.median(), category.sigma()), category.name(),
+                        description, Date.valueOf(pickDay(random, firstDay, historyDays)), now,
+                        SearchTokens.of(userId, description, category.name()));
+            }
+
+            // Monthly salary on the 25th; only the latest row is flagged recurring, as a user would enter it
+            BigDecimal salary = amount(random, 4200, 0.4);
+            List<LocalDate> paydays = new ArrayList<>();
+            for (LocalDate month = firstDay.withDayOfMonth(1); !month.isAfter(today); month = month.plusMonths(1)) {
+                LocalDate payday = month.withDayOfMonth(25);
+                if (!payday.isBefore(firstDay) && !payday.isAfter(today)) {
+                    paydays.add(payday);
+                }
+            }
+            for (int p = 0; p < paydays.size(); p++) {
+                incomes.add(userId, salary, "Salary", "Payroll", "MONTHLY", Date.valueOf(paydays.get(p)),
+                        p == paydays.size() - 1, now, SearchTokens.of(userId, "Payroll", "Salary"));
+            }
+            if (random.nextInt(10) < 3) {
+                int gigs = random.nextInt(3 * volumes.months() + 1);
+                for (int g = 0; g < gigs; g++) {
+                    incomes.add(userId, amount(random, 350, 0.8), "Freelance", "Client invoice", "ONE_TIME",
+                            Date.valueOf(pickDay(random, firstDay, historyDays)), false, now,
+                            SearchTokens.of(userId, "Client invoice", "Freelance"));
+                }
+            }
+
+            // Budgets for the current and the two previous months, around the user's expected spend
+            double perMonth = Math.max(count, 0) / (double) volumes.months();
+            for (int m = 0; m < 3; m++) {
+                LocalDate month = today.minusMonths(m);
+                for (int c = 0; c < BUDGETED_CATEGORIES; c++) {
+                    Category category = CATEGORIES[c];
+                    double expected = perMonth * category.share() * category.mean();
+                    long limit = Math.max(5, Math.round(expected * (0.8 + random.nextDouble() * 0.5) / 10));
+                    budgets.add(userId, category.name(), BigDecimal.valueOf(limit * 10), month.getMonthValue(),
+                            month.getYear(), now);
+                }
+            }
+        }
+        expenses.flush();
+        incomes.flush();
+        budgets.flush();
+
+        monthlySummaryService.rebuildAll();
+        // Rows went in through JDBC, behind Hibernate's back: drop cached users, budgets and queries.
+        entityManagerFactory.getCache().evictAll();
+        return new Result(volumes.users(), expenses.rows, incomes.rows, budgets.rows);
+    }
+
+    private Map<String, Long> userIds() {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT id, email FROM users WHERE email LIKE ?",
+                rs -> {
+                    ids.put(rs.getString(2), rs.getLong(1));
+                },
+                EMAIL_PREFIX + "%" + EMAIL_DOMAIN);
+        return ids;
+    }
+
+    private static Category pickCategory(Random random) {
+        double r = random.nextDouble();
+        for (Category category : CATEGORIES) {
+            r -= category.share();
+            if (r < 0) {
+                return category;
+            }
+        }
+        return CATEGORIES[CATEGORIES.length - 1];
+    }
+
+    // Weekends get about 1.4x the traffic of a weekday.
+    private static LocalDate pickDay(Random random, LocalDate firstDay, int historyDays) {
+        while (true) {
+            LocalDate day = firstDay.plusDays(random.nextInt(historyDays));
+            boolean weekend = day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY;
+            if (weekend || random.nextDouble() < 0.7) {
+                return day;
+            }
+        }
+    }
+
+    private static BigDecimal amount(Random random, double median, double sigma) {
+        double value = median * Math.exp(random.nextGaussian() * sigma);
+        return BigDecimal.valueOf(Math.round(Math.min(Math.max(value, 0.5), 99999) * 100), 2);
+    }
+
+    private record Category(String name, double share, double median, double sigma, String... merchants) {
+        double mean() {
+            return median * Math.exp(sigma * sigma / 2);
+        }
+    }
+
+    private class Batch {
+        private final String sql;
+        private final int size;
+        private final List<Object[]> pending = new ArrayList<>();
+        private long rows;
+
+        Batch(String sql, int size) {
+            this.sql = sql;
+            this.size = size;
+        }
+
+        void add(Object... row) {
+            pending.add(row);
+            if (pending.size() >= size) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, pending));
+            rows += pending.size();
+            pending.clear();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.finance.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finance.dto.ExpenseView;
+import com.finance.dto.IncomeView;
+import com.finance.repository.ArchivedExpenseRepository;
+import com.finance.repository.ArchivedIncomeRepository;
+import com.finance.repository.ExpenseRepository;
+import com.finance.repository.IncomeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Writes a user's full expense or income history as CSV or NDJSON. Rows are read as record
+ * projections through a cursor-backed {@link Stream}; nothing enters the persistence context, so
+ * memory use does not depend on how many rows are exported. When the range reaches the archive, the hot and archived
+ * cursors are merged so the output stays in date order.
+ */
+@Service
+public class TransactionExportService {
+
+    // Bounds of the MySQL DATE type, used when the caller does not restrict the range.
+    private static final LocalDate EARLIEST = LocalDate.of(1000, 1, 1);
+    private static final LocalDate LATEST = LocalDate.of(9999, 12, 31);
+
+    private static final Comparator<ExpenseView> EXPENSE_ORDER =
+            Comparator.comparing(ExpenseView::transactionDate).thenComparing(ExpenseView::id);
+    private static final Comparator<IncomeView> INCOME_ORDER =
+            Comparator.comparing(IncomeView::transactionDate).thenComparing(IncomeView::id);
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private IncomeRepository incomeRepository;
+
+    @Autowired
+    private ArchivedExpenseRepository archivedExpenseRepository;
+
+    @Autowired
+    private ArchivedIncomeRepository archivedIncomeRepository;
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public enum Format {
+        CSV("text/csv"), NDJSON("application/x-ndjson");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public static Format parse(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void writeExpenses(Long userId, LocalDate startDate, LocalDate endDate, Format format,
+                              OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writer.write("id,amount,category,description,transactionDate\n");
+        }
+        try (Stream<ExpenseView> expenses = expenseRepository.streamByUserIdAndTransactionDateBetween(
+                userId, orEarliest(startDate), orLatest(endDate));
+             Stream<ExpenseView> archived = archiveService.reaches(startDate)
+                     ? archivedExpenseRepository.streamByUserIdAndTransactionDateBetween(
+                             userId, orEarliest(startDate), orLatest(endDate))
+                     : Stream.empty()) {
+            Iterator<ExpenseView> it = ArchiveService.mergeSorted(expenses.iterator(), archived.iterator(), EXPENSE_ORDER);
+            while (it.hasNext()) {
+                ExpenseView expense = it.next();
+                if (format == Format.CSV) {
+                    writer.write(String.valueOf(expense.id()));
+                    writer.write(',');
+                    writer.write(expense.amount().toPlainString());
+                    writer.write(',');
+                    writeCsvField(writer, expense.category());
+                    writer.write(',');
+                    writeCsvField(writer, expense.description());
+                    writer.write(',');
+                    writer.write(expense.transactionDate().toString());
+                    writer.write('\n');
+                } else {
+                    writer.write(objectMapper.writeValueAsString(expense));
+                    writer.write('\n');
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    @Transactional(readOnly = true)
+    public void writeIncomes(Long userId, LocalDate startDate, LocalDate endDate, Format format,
+                             OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writer.write("id,amount,source,description,frequency,transactionDate,recurring\n");
+        }
+        try (Stream<IncomeView> incomes = incomeRepository.streamByUserIdAndTransactionDateBetween(
+                userId, orEarliest(startDate), orLatest(endDate));
+             Stream<IncomeView> archived = archiveService.reaches(startDate)
+                     ? archivedIncomeRepository.streamByUserIdAndTransactionDateBetween(
+                             userId, orEarliest(startDate), orLatest(endDate))
+                     : Stream.empty()) {
+            Iterator<IncomeView> it = ArchiveService.mergeSorted(incomes.iterator(), archived.iterator(), INCOME_ORDER);
+            while (it.hasNext()) {
+                IncomeView income = it.next();
+                if (format == Format.CSV) {
+                    writer.write(String.valueOf(income.id()));
+                    writer.write(',');
+                    writer.write(income.amount().toPlainString());
+                    writer.write(',');
+                    writeCsvField(writer, income.source());
+                    writer.write(',');
+                    writeCsvField(writer, income.description());
+                    writer.write(',');
+                    writer.write(income.frequency().name());
+                    writer.write(',');
+                    writer.write(income.transactionDate().toString());
+                    writer.write(',');
+                    writer.write(String.valueOf(income.recurring()));
+                    writer.write('\n');
+                } else {
+                    writer.write(objectMapper.writeValueAsString(income));
+                    writer.write('\n');
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private LocalDate orEarliest(LocalDate date) {
+        return date != null ? date : EARLIEST;
+    }
+
+    private LocalDate orLatest(LocalDate date) {
+        return date != null ? date : LATEST;
+    }
+}
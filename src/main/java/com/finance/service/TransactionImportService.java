@@ -0,0 +1,375 @@
+package com.finance.service;
+
+import com.finance.dto.ImportResult;
+import com.finance.model.Expense;
+import com.finance.model.Income;
+import com.finance.model.SearchTokens;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Bulk expense/income import. Rows are validated one by one and written in chunks of
+ * {@code finance.import.chunk-size} through JDBC batch inserts (multi-row statements with the
+ * MySQL driver's rewriteBatchedStatements), each chunk in its own transaction together with
+ * its monthly rollup deltas. A bad row or a failed chunk is reported without aborting the rest.
+ */
+@Service
+public class TransactionImportService {
+
+    private static final String INSERT_EXPENSE =
+            "INSERT INTO expenses (user_id, amount, category, description, transaction_date, created_at, search_tokens) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_INCOME =
+            "INSERT INTO incomes (user_id, amount, source, description, frequency, transaction_date, recurring, created_at, " +
+            "search_tokens) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // DECIMAL(10, 2)
+    private static final BigDecimal MAX_AMOUNT = new BigDecimal("99999999.99");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MonthlySummaryService monthlySummaryService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Value("${finance.import.chunk-size:1000}")
+    private int chunkSize;
+
+    public ImportResult importExpenses(Long userId, List<Expense> expenses) {
+        ImportResult result = new ImportResult();
+        Chunk<Expense> chunk = new Chunk<>(result, rows -> writeExpenses(userId, rows));
+        int row = 0;
+        for (Expense expense : expenses) {
+            row++;
+            String error = validateExpense(expense);
+            if (error != null) {
+                result.addError(row, error);
+            } else {
+                chunk.add(row, expense);
+            }
+        }
+        chunk.flush();
+        return result;
+    }
+
+    public ImportResult importIncomes(Long userId, List<Income> incomes) {
+        ImportResult result = new ImportResult();
+        Chunk<Income> chunk = new Chunk<>(result, rows -> writeIncomes(userId, rows));
+        int row = 0;
+        for (Income income : incomes) {
+            row++;
+            String error = validateIncome(income);
+            if (error != null) {
+                result.addError(row, error);
+            } else {
+                chunk.add(row, income);
+            }
+        }
+        chunk.flush();
+        return result;
+    }
+
+    /**
+     * Streams a CSV with header {@code amount,category,description,transactionDate}
+     * (description optional, ISO dates).
+     */
+    public ImportResult importExpensesCsv(Long userId, Reader csv) throws IOException {
+        ImportResult result = new ImportResult();
+        Chunk<Expense> chunk = new Chunk<>(result, rows -> writeExpenses(userId, rows));
+        CsvRecordReader reader = new CsvRecordReader(csv);
+        Map<String, Integer> header = readHeader(reader, "amount", "category", "transactiondate");
+
+        List<String> fields;
+        int row = 0;
+        while ((fields = reader.next()) != null) {
+            row++;
+            if (fields.isEmpty()) {
+                continue;
+            }
+            try {
+                Expense expense = new Expense();
+                expense.setAmount(parseAmount(field(fields, header, "amount")));
+                expense.setCategory(field(fields, header, "category"));
+                expense.setDescription(field(fields, header, "description"));
+                expense.setTransactionDate(parseDate(field(fields, header, "transactiondate")));
+
+                String error = validateExpense(expense);
+                if (error != null) {
+                    result.addError(row, error);
+                } else {
+                    chunk.add(row, expense);
+                }
+            } catch (IllegalArgumentException e) {
+                result.addError(row, e.getMessage());
+            }
+        }
+        chunk.flush();
+        return result;
+    }
+
+    /**
+     * Streams a CSV with header {@code amount,source,description,frequency,transactionDate,recurring}
+     * (description and recurring optional, ISO dates).
+     */
+    public ImportResult importIncomesCsv(Long userId, Reader csv) throws IOException {
+        ImportResult result = new ImportResult();
+        Chunk<Income> chunk = new Chunk<>(result, rows -> writeIncomes(userId, rows));
+        CsvRecordReader reader = new CsvRecordReader(csv);
+        Map<String, Integer> header = readHeader(reader, "amount", "source", "frequency", "transactiondate");
+
+        List<String> fields;
+        int row = 0;
+        while ((fields = reader.next()) != null) {
+            row++;
+            if (fields.isEmpty()) {
+                continue;
+            }
+            try {
+                Income income = new Income();
+                income.setAmount(parseAmount(field(fields, header, "amount")));
+                income.setSource(field(fields, header, "source"));
+                income.setDescription(field(fields, header, "description"));
+                income.setFrequency(parseFrequency(field(fields, header, "frequency")));
+                income.setTransactionDate(parseDate(field(fields, header, "transactiondate")));
+                income.setRecurring(Boolean.parseBoolean(field(fields, header, "recurring")));
+
+                String error = validateIncome(income);
+                if (error != null) {
+                    result.addError(row, error);
+                } else {
+                    chunk.add(row, income);
+                }
+            } catch (IllegalArgumentException e) {
+                result.addError(row, e.getMessage());
+            }
+        }
+        chunk.flush();
+        return result;
+    }
+
+    private void writeExpenses(Long userId, List<Expense> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(INSERT_EXPENSE, rows, rows.size(), (ps, expense) -> {
+                ps.setLong(1, userId);
+                ps.setBigDecimal(2, expense.getAmount());
+                ps.setString(3, expense.getCategory());
+                ps.setString(4, expense.getDescription());
+                ps.setDate(5, Date.valueOf(expense.getTransactionDate()));
+                ps.setTimestamp(6, now);
+                ps.setString(7, SearchTokens.of(userId, expense.getDescription(), expense.getCategory()));
+            });
+            monthlySummaryService.addExpenses(userId, rows);
+            dataVersionService.bump(userId);
+        });
+    }
+
+    private void writeIncomes(Long userId, List<Income> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(INSERT_INCOME, rows, rows.size(), (ps, income) -> {
+                ps.setLong(1, userId);
+                ps.setBigDecimal(2, income.getAmount());
+                ps.setString(3, income.getSource());
+                ps.setString(4, income.getDescription());
+                ps.setString(5, income.getFrequency().name());
+                ps.setDate(6, Date.valueOf(income.getTransactionDate()));
+                ps.setBoolean(7, income.isRecurring());
+                ps.setTimestamp(8, now);
+                ps.setString(9, SearchTokens.of(userId, income.getDescription(), income.getSource()));
+            });
+            monthlySummaryService.addIncomes(userId, rows);
+            dataVersionService.bump(userId);
+        });
+    }
+
+    private String validateExpense(Expense expense) {
+        if (expense == null) {
+            return "Row is empty";
+        }
+        String error = validateAmount(expense.getAmount());
+        if (error != null) {
+            return error;
+        }
+        if (isBlank(expense.getCategory())) {
+            return "category is required";
+        }
+        if (expense.getCategory().length() > 100) {
+            return "category must be at most 100 characters";
+        }
+        if (expense.getDescription() != null && expense.getDescription().length() > 500) {
+            return "description must be at most 500 characters";
+        }
+        if (expense.getTransactionDate() == null) {
+            return "transactionDate is required";
+        }
+        return null;
+    }
+
+    private String validateIncome(Income income) {
+        if (income == null) {
+            return "Row is empty";
+        }
+        String error = validateAmount(income.getAmount());
+        if (error != null) {
+            return error;
+        }
+        if (isBlank(income.getSource())) {
+            return "source is required";
+        }
+        if (income.getSource().length() > 255) {
+            return "source must be at most 255 characters";
+        }
+        if (income.getDescription() != null && income.getDescription().length() > 500) {
+            return "description must be at most 500 characters";
+        }
+        if (income.getFrequency() == null) {
+            return "frequency is required";
+        }
+        if (income.getTransactionDate() == null) {
+            return "transactionDate is required";
+        }
+        return null;
+    }
+
+    private String validateAmount(BigDecimal amount) {
+        if (amount == null) {
+            return "amount is required";
+        }
+        if (amount.scale() > 2) {
+            return "amount must have at most 2 decimal places";
+        }
+        if (amount.abs().compareTo(MAX_AMOUNT) > 0) {
+            return "amount is out of range";
+        }
+        return null;
+    }
+
+    private Map<String, Integer> readHeader(CsvRecordReader reader, String... required) throws IOException {
+        List<String> columns = reader.next();
+        if (columns == null) {
+            throw new IllegalArgumentException("CSV is empty");
+        }
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(columns.get(i).replace("_", "").toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : required) {
+            if (!header.containsKey(column)) {
+                throw new IllegalArgumentException("CSV header is missing column: " + column);
+            }
+        }
+        return header;
+    }
+
+    private String field(List<String> fields, Map<String, Integer> header, String column) {
+        Integer index = header.get(column);
+        if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    private BigDecimal parseAmount(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid amount: " + value);
+        }
+    }
+
+    private LocalDate parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid transactionDate: " + value);
+        }
+    }
+
+    private Income.Frequency parseFrequency(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Income.Frequency.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid frequency: " + value);
+        }
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * Buffers validated rows and writes them once {@code chunkSize} is reached. A chunk that
+     * fails to commit is reported row by row and the import carries on with the next chunk.
+     */
+    private class Chunk<T> {
+        private final ImportResult result;
+        private final Consumer<List<T>> writer;
+        private final List<T> rows = new ArrayList<>();
+        private final List<Integer> rowNumbers = new ArrayList<>();
+
+        Chunk(ImportResult result, Consumer<List<T>> writer) {
+            this.result = result;
+            this.writer = writer;
+        }
+
+        void add(int rowNumber, T row) {
+            rows.add(row);
+            rowNumbers.add(rowNumber);
+            if (rows.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            try {
+                writer.accept(rows);
+                result.addImported(rows.size());
+            } catch (RuntimeException e) {
+                String message = "Insert failed: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+                for (Integer rowNumber : rowNumbers) {
+                    result.addError(rowNumber, message);
+                }
+            }
+            rows.clear();
+            rowNumbers.clear();
+        }
+    }
+}
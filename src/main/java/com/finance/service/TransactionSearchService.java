@@ -0,0 +1,145 @@
+package com.finance.service;
+
+import com.finance.dto.ExpenseView;
+import com.finance.dto.IncomeView;
+import com.finance.model.SearchTokens;
+import com.finance.repository.ArchivedExpenseRepository;
+import com.finance.repository.ArchivedIncomeRepository;
+import com.finance.repository.ExpenseRepository;
+import com.finance.repository.IncomeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Text search over a user's expenses (description, category) and incomes (description, source).
+ * On MySQL this uses the FULLTEXT indexes over the owner-scoped {@link SearchTokens} in boolean
+ * mode: every word must match, as a prefix, and results come back ranked by relevance, newest
+ * first among equals. With
+ * {@code finance.search.full-text=false} (databases without MATCH ... AGAINST, e.g. the local
+ * H2 profile) it falls back to an unranked substring match. Archived transactions are only
+ * searched to fill up a result the hot tables could not.
+ */
+@Service
+public class TransactionSearchService {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private static final int MAX_TERMS = 10;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private IncomeRepository incomeRepository;
+
+    @Autowired
+    private ArchivedExpenseRepository archivedExpenseRepository;
+
+    @Autowired
+    private ArchivedIncomeRepository archivedIncomeRepository;
+
+    @Value("${finance.search.full-text:true}")
+    private boolean fullText;
+
+    @Transactional(readOnly = true)
+    public List<ExpenseView> searchExpenses(Long userId, String query, int limit) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int pageSize = clampLimit(limit);
+        List<ExpenseView> expenses = new ArrayList<>(fullText
+                ? inRankOrder(expenseRepository.searchFullTextIds(userId, booleanQuery(userId, terms), pageSize),
+                        ids -> expenseRepository.findViewsByUserIdAndIdIn(userId, ids), ExpenseView::id)
+                : expenseRepository.searchByPattern(userId, pattern(query), PageRequest.of(0, pageSize)));
+        int missing = pageSize - expenses.size();
+        if (missing > 0) {
+            expenses.addAll(fullText
+                    ? inRankOrder(archivedExpenseRepository.searchFullTextIds(userId, booleanQuery(userId, terms), missing),
+                            ids -> archivedExpenseRepository.findViewsByUserIdAndIdIn(userId, ids), ExpenseView::id)
+                    : archivedExpenseRepository.searchByPattern(userId, pattern(query), PageRequest.of(0, missing)));
+        }
+        return expenses;
+    }
+
+    @Transactional(readOnly = true)
+    public List<IncomeView> searchIncomes(Long userId, String query, int limit) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int pageSize = clampLimit(limit);
+        List<IncomeView> incomes = new ArrayList<>(fullText
+                ? inRankOrder(incomeRepository.searchFullTextIds(userId, booleanQuery(userId, terms), pageSize),
+                        ids -> incomeRepository.findViewsByUserIdAndIdIn(userId, ids), IncomeView::id)
+                : incomeRepository.searchByPattern(userId, pattern(query), PageRequest.of(0, pageSize)));
+        int missing = pageSize - incomes.size();
+        if (missing > 0) {
+            incomes.addAll(fullText
+                    ? inRankOrder(archivedIncomeRepository.searchFullTextIds(userId, booleanQuery(userId, terms), missing),
+                            ids -> archivedIncomeRepository.findViewsByUserIdAndIdIn(userId, ids), IncomeView::id)
+                    : archivedIncomeRepository.searchByPattern(userId, pattern(query), PageRequest.of(0, missing)));
+        }
+        return incomes;
+    }
+
+    // Loads the ranked ids as views and puts them back in rank order; IN (...) returns them unordered.
+    static <V> List<V> inRankOrder(List<Long> rankedIds, Function<List<Long>, List<V>> load, Function<V, Long> id) {
+        if (rankedIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, V> byId = new HashMap<>();
+        for (V view : load.apply(rankedIds)) {
+            byId.put(id.apply(view), view);
+        }
+        List<V> views = new ArrayList<>(byId.size());
+        for (Long rankedId : rankedIds) {
+            V view = byId.get(rankedId);
+            if (view != null) {
+                views.add(view);
+            }
+        }
+        return views;
+    }
+
+    public static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    // Tokenized like the stored text, so user input cannot inject boolean-mode operators.
+    static List<String> terms(String query) {
+        List<String> words = SearchTokens.words(query);
+        return words.size() > MAX_TERMS ? words.subList(0, MAX_TERMS) : words;
+    }
+
+    // User 42, "amazon prime" -> "+u42wamazon* +u42wprime*"
+    static String booleanQuery(Long userId, List<String> terms) {
+        StringBuilder sb = new StringBuilder();
+        for (String term : terms) {
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            sb.append('+').append(SearchTokens.token(userId, term)).append('*');
+        }
+        return sb.toString();
+    }
+
+    // Backslash escapes LIKE wildcards; the queries declare it with ESCAPE.
+    private static String pattern(String query) {
+        String escaped = query.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
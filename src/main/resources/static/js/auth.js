@@ -94,6 +94,24 @@ async function authenticatedFetch(url, options = {}) {
     }
 }
 
+// Fetch every page of a cursor-paginated list endpoint
+async function fetchAllPages(url) {
+    const items = [];
+    let cursor = null;
+    do {
+        const separator = url.includes('?') ? '&' : '?';
+        const pageUrl = cursor ? `${url}${separator}cursor=${encodeURIComponent(cursor)}` : url;
+        const response = await authenticatedFetch(pageUrl);
+        if (!response) {
+            return items;
+        }
+        const page = await response.json();
+        items.push(...page.items);
+        cursor = page.nextCursor;
+    } while (cursor);
+    return items;
+}
+
 // Show error message
 function showError(elementId, message) {
     const errorElement = document.getElementById(elementId);
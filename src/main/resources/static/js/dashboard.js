@@ -30,40 +30,19 @@ document.getElementById('budgetYear').value = currentYear;
 // Initialize dashboard
 async function initializeDashboard() {
     await loadDashboardStats();
-    await loadBudgetProgress();
 }
 
-// Load dashboard statistics
+// Load dashboard statistics and budget progress in one request
 async function loadDashboardStats() {
     try {
-        const currentDate = new Date();
-        const firstDayOfMonth = new Date(currentDate.getFullYear(), currentDate.getMonth(), 1);
-        const lastDayOfMonth = new Date(currentDate.getFullYear(), currentDate.getMonth() + 1, 0);
-
-        const startDate = firstDayOfMonth.toISOString().split('T')[0];
-        const endDate = lastDayOfMonth.toISOString().split('T')[0];
-
-        // Fetch expenses
-        const expensesResponse = await authenticatedFetch(
-            `${API_BASE_URL}/expenses/date-range?startDate=${startDate}&endDate=${endDate}`
+        const response = await authenticatedFetch(
+            `${API_BASE_URL}/dashboard?month=${currentMonth}&year=${currentYear}`
         );
-        const expenses = await expensesResponse.json();
+        const dashboard = await response.json();
 
-        // Fetch incomes
-        const incomesResponse = await authenticatedFetch(
-            `${API_BASE_URL}/incomes`
-        );
-        const incomes = await incomesResponse.json();
-
-        // Calculate totals
-        const totalExpenses = expenses.reduce((sum, expense) => sum + parseFloat(expense.amount), 0);
-        const totalIncome = incomes
-            .filter(income => {
-                const incomeDate = new Date(income.transactionDate);
-                return incomeDate >= firstDayOfMonth && incomeDate <= lastDayOfMonth;
-            })
-            .reduce((sum, income) => sum + parseFloat(income.amount), 0);
-        const balance = totalIncome - totalExpenses;
+        const totalIncome = parseFloat(dashboard.totalIncome);
+        const totalExpenses = parseFloat(dashboard.totalExpenses);
+        const balance = parseFloat(dashboard.net);
 
         // Update UI
         document.getElementById('totalIncome').textContent = `$${totalIncome.toFixed(2)}`;
@@ -71,33 +50,21 @@ async function loadDashboardStats() {
         document.getElementById('balance').textContent = `$${balance.toFixed(2)}`;
 
         // Calculate budget status
-        const budgetResponse = await authenticatedFetch(
-            `${API_BASE_URL}/budgets/month/${currentMonth}/year/${currentYear}`
-        );
-        const budgets = await budgetResponse.json();
-
-        if (budgets.length > 0) {
-            const totalBudget = budgets.reduce((sum, budget) => sum + parseFloat(budget.budgetAmount), 0);
-            const budgetPercentage = totalBudget > 0 ? (totalExpenses / totalBudget * 100) : 0;
+        const totalBudget = parseFloat(dashboard.totalBudget);
+        if (totalBudget > 0) {
+            const budgetPercentage = totalExpenses / totalBudget * 100;
             document.getElementById('budgetStatus').textContent = `${budgetPercentage.toFixed(1)}%`;
         }
 
+        renderBudgetProgress(dashboard.budgets);
     } catch (error) {
         console.error('Error loading dashboard stats:', error);
     }
 }
 
-// Load budget progress
-async function loadBudgetProgress() {
+// Render budget progress
+function renderBudgetProgress(budgetProgress) {
     try {
-        const currentMonth = new Date().getMonth() + 1;
-        const currentYear = new Date().getFullYear();
-
-        const response = await authenticatedFetch(
-            `${API_BASE_URL}/budgets/progress?month=${currentMonth}&year=${currentYear}`
-        );
-        const budgetProgress = await response.json();
-
         const container = document.getElementById('budgetProgress');
 
         if (budgetProgress.length === 0) {
@@ -162,7 +129,6 @@ function setupForms() {
                 e.target.reset();
                 document.getElementById('expenseDate').value = today;
                 await loadDashboardStats();
-                await loadBudgetProgress();
             } else {
                 const error = await response.json();
                 alert('Error: ' + (error.message || 'Failed to add expense'));
@@ -230,7 +196,6 @@ function setupForms() {
                 document.getElementById('budgetMonth').value = currentMonth;
                 document.getElementById('budgetYear').value = currentYear;
                 await loadDashboardStats();
-                await loadBudgetProgress();
             } else {
                 const error = await response.json();
                 alert('Error: ' + (error.message || 'Failed to set budget'));
@@ -16,12 +16,10 @@ document.addEventListener('DOMContentLoaded', () => {
 async function loadTransactions() {
     try {
         // Fetch expenses
-        const expensesResponse = await authenticatedFetch(`${API_BASE_URL}/expenses`);
-        const expenses = await expensesResponse.json();
+        const expenses = await fetchAllPages(`${API_BASE_URL}/expenses?limit=200`);
 
         // Fetch incomes
-        const incomesResponse = await authenticatedFetch(`${API_BASE_URL}/incomes`);
-        const incomes = await incomesResponse.json();
+        const incomes = await fetchAllPages(`${API_BASE_URL}/incomes?limit=200`);
 
         // Combine and format transactions
         allTransactions = [
@@ -144,10 +142,7 @@ function setupFilterHandlers() {
 // Edit transaction
 async function editTransaction(id, type) {
     try {
-        const endpoint = type === 'expense' ? 'expenses' : 'incomes';
-        const response = await authenticatedFetch(`${API_BASE_URL}/${endpoint}`);
-        const items = await response.json();
-        const item = items.find(i => i.id === id);
+        const item = allTransactions.find(t => t.id === id && t.type === type);
 
         if (!item) {
             alert('Transaction not found');
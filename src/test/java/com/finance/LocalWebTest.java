@@ -0,0 +1,31 @@
+package com.finance;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * MockMvc tests against the local profile with a small seeded dataset (users
+ * {@code SyntheticDataGenerator.email(0..4)}, password {@value #PASSWORD}). The databases are
+ * separate from the other local-profile tests', so every class carrying this annotation shares
+ * one application context and one dataset.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:webtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=YEAR,MONTH,VALUE;DB_CLOSE_DELAY=-1",
+        "finance.datasource.replicas[0].url=jdbc:h2:mem:webtest_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=YEAR,MONTH,VALUE;DB_CLOSE_DELAY=-1",
+        "finance.seed.users=5",
+        "finance.seed.expenses-per-user=200",
+        "finance.seed.password=" + LocalWebTest.PASSWORD})
+@AutoConfigureMockMvc
+@ActiveProfiles("local")
+public @interface LocalWebTest {
+
+    String PASSWORD = "password";
+}
@@ -0,0 +1,39 @@
+package com.finance;
+
+import com.jayway.jsonpath.JsonPath;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public final class WebTestSupport {
+
+    private WebTestSupport() {
+    }
+
+    /**
+     * Starts a login; it hashes on a pool, so the response comes from the async dispatch.
+     */
+    public static MvcResult startLogin(MockMvc mockMvc, String email) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("{\"email\":\"%s\",\"password\":\"%s\"}", email, LocalWebTest.PASSWORD)))
+                .andReturn();
+    }
+
+    public static String token(MockMvc mockMvc, String email) throws Exception {
+        MvcResult login = mockMvc.perform(asyncDispatch(startLogin(mockMvc, email)))
+                .andExpect(status().isOk())
+                .andReturn();
+        return JsonPath.read(login.getResponse().getContentAsString(), "$.token");
+    }
+
+    public static MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request, String token) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+}
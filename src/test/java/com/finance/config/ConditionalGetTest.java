@@ -0,0 +1,95 @@
+package com.finance.config;
+
+import com.finance.LocalWebTest;
+import com.finance.WebTestSupport;
+import com.finance.model.User;
+import com.finance.repository.UserRepository;
+import com.finance.service.DataVersionService;
+import com.finance.service.SyntheticDataGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@LocalWebTest
+class ConditionalGetTest {
+
+    private static final String EMAIL = SyntheticDataGenerator.email(2);
+
+    private static String token;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void authenticate() throws Exception {
+        if (token == null) {
+            token = WebTestSupport.token(mockMvc, EMAIL);
+        }
+    }
+
+    @Test
+    void matchingTagIsNotModifiedUntilTheNextWrite() throws Exception {
+        String etag = etag();
+        mockMvc.perform(authorized(get("/api/budgets")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        mockMvc.perform(authorized(post("/api/expenses"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\":5.00,\"category\":\"Etag\",\"transactionDate\":\"" + LocalDate.now() + "\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(authorized(get("/api/budgets")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        assertThat(etag()).isNotEqualTo(etag);
+    }
+
+    // The version is stored, not held per process: a write made through any instance (here, a
+    // bump straight against the database) changes the tag every instance serves.
+    @Test
+    void tagFollowsTheStoredVersion() throws Exception {
+        String etag = etag();
+        User user = userRepository.findByEmail(EMAIL).orElseThrow();
+        dataVersionService.bump(user.getId());
+
+        mockMvc.perform(authorized(get("/api/budgets")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void errorResponseHasNoTag() throws Exception {
+        mockMvc.perform(authorized(get("/api/expenses/date-range?startDate=not-a-date&endDate=2020-01-01")))
+                .andExpect(status().is4xxClientError())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    private String etag() throws Exception {
+        String etag = mockMvc.perform(authorized(get("/api/budgets")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+        return etag;
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return WebTestSupport.authorized(request, token);
+    }
+}
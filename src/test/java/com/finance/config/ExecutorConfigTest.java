@@ -0,0 +1,63 @@
+package com.finance.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExecutorConfigTest {
+
+    @Test
+    void fullAlertQueueDropsAndCountsInsteadOfRunningOnCaller() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ThreadPoolTaskExecutor executor = new ExecutorConfig().alertExecutor(1, 1, registry);
+        executor.initialize();
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> await(release));
+            executor.execute(() -> await(release));
+            Thread caller = Thread.currentThread();
+            boolean[] ranOnCaller = {false};
+            executor.execute(() -> ranOnCaller[0] = Thread.currentThread() == caller);
+
+            assertThat(ranOnCaller[0]).isFalse();
+            assertThat(registry.get("budget.alerts.dropped").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void fullHashQueueRejectsAndCounts() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ThreadPoolTaskExecutor executor = new ExecutorConfig().passwordHashExecutor(1, 1, registry);
+        executor.initialize();
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> await(release));
+            executor.execute(() -> await(release));
+
+            assertThatThrownBy(() -> executor.execute(() -> { }))
+                    .isInstanceOf(RejectedExecutionException.class);
+            assertThat(registry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
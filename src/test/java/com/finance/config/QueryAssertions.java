@@ -0,0 +1,50 @@
+package com.finance.config;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query budgets for MockMvc requests, read from the {@link QueryCounter.Stats} that
+ * {@link QueryCountFilter} keeps for each API request. An async request is counted over both of
+ * its dispatches, so pass the {@code asyncDispatch} result.
+ */
+public final class QueryAssertions {
+
+    // Repeated statements listed in a failure message.
+    private static final int MAX_REPORTED = 5;
+
+    private QueryAssertions() {
+    }
+
+    @FunctionalInterface
+    public interface MockMvcRequest {
+        ResultActions perform() throws Exception;
+    }
+
+    /**
+     * Performs the request and fails if it ran more than {@code maxStatements} SQL statements,
+     * listing the statements it repeated.
+     */
+    public static MvcResult assertMaxQueries(int maxStatements, MockMvcRequest request) throws Exception {
+        MvcResult result = request.perform().andReturn();
+        MockHttpServletRequest servletRequest = result.getRequest();
+        QueryCounter.Stats stats = (QueryCounter.Stats) servletRequest.getAttribute(QueryCountFilter.STATS_ATTRIBUTE);
+        String endpoint = servletRequest.getMethod() + " " + servletRequest.getRequestURI();
+        assertThat(stats).as("%s was not counted; only /api/ requests are", endpoint).isNotNull();
+
+        StringBuilder repeated = new StringBuilder();
+        List<QueryCounter.Repeat> repeats = stats.repeats();
+        for (QueryCounter.Repeat repeat : repeats.subList(0, Math.min(MAX_REPORTED, repeats.size()))) {
+            repeated.append("\n  ").append(repeat.count()).append("x ").append(repeat.statement());
+        }
+        assertThat(stats.statements())
+                .as("SQL statements run by %s%s", endpoint, repeated)
+                .isLessThanOrEqualTo(maxStatements);
+        return result;
+    }
+}
@@ -0,0 +1,75 @@
+package com.finance.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The local profile runs the primary and the replica as separate H2 databases, so the database a
+ * connection belongs to shows which pool served it.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("local")
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertThat(database(true)).isEqualToIgnoringCase("replica");
+    }
+
+    @Test
+    void readWriteTransactionUsesPrimary() {
+        assertThat(database(false)).isEqualToIgnoringCase("finance");
+    }
+
+    @Test
+    void pinnedReadOnlyTransactionUsesPrimary() {
+        ReplicaRoutingDataSource.forcePrimary();
+        try {
+            assertThat(database(true)).isEqualToIgnoringCase("finance");
+        } finally {
+            ReplicaRoutingDataSource.clear();
+        }
+    }
+
+    @Test
+    void replicaSeesPrimaryDataButRejectsWrites() {
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update(
+                "INSERT INTO users (email, password, full_name, email_verified, created_at) "
+                        + "VALUES ('replica@example.com', 'x', 'Replica', false, CURRENT_TIMESTAMP)"));
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Integer count = readOnly.execute(status -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email = 'replica@example.com'", Integer.class));
+        assertThat(count).isEqualTo(1);
+
+        assertThatThrownBy(() -> readOnly.executeWithoutResult(status ->
+                jdbcTemplate.update("DELETE FROM users WHERE email = 'replica@example.com'")))
+                .rootCause()
+                .hasMessageContaining("read only");
+    }
+
+    private String database(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbcTemplate.execute((ConnectionCallback<String>) Connection::getCatalog));
+    }
+}
@@ -0,0 +1,131 @@
+package com.finance.controller;
+
+import com.finance.LocalWebTest;
+import com.finance.WebTestSupport;
+import com.finance.service.SyntheticDataGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+import static com.finance.WebTestSupport.startLogin;
+import static com.finance.config.QueryAssertions.assertMaxQueries;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Upper bounds on the SQL statements each endpoint runs, including the JWT user lookup, so an
+ * N+1 loop fails the build. Same budgets as {@code QueryBudgetCheck}; raise one only together
+ * with the change that needs it.
+ */
+@LocalWebTest
+class EndpointQueryBudgetTest {
+
+    private static String token;
+
+    private final LocalDate today = LocalDate.now();
+    private final int month = today.getMonthValue();
+    private final int year = today.getYear();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void authenticate() throws Exception {
+        if (token == null) {
+            token = WebTestSupport.token(mockMvc, SyntheticDataGenerator.email(0));
+        }
+    }
+
+    // Login hashes on a pool, so the response comes from the async dispatch.
+    @Test
+    void login() throws Exception {
+        assertMaxQueries(3, () -> mockMvc.perform(asyncDispatch(startLogin(mockMvc, SyntheticDataGenerator.email(1))))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void expensePage() throws Exception {
+        assertMaxQueries(4, () -> mockMvc.perform(authorized(get("/api/expenses?limit=50"))).andExpect(status().isOk()));
+    }
+
+    @Test
+    void expensesByCategory() throws Exception {
+        assertMaxQueries(3, () -> mockMvc.perform(authorized(get("/api/expenses/category/Groceries?startDate="
+                + today.withDayOfMonth(1)))).andExpect(status().isOk()));
+    }
+
+    @Test
+    void expensesByDateRange() throws Exception {
+        assertMaxQueries(3, () -> mockMvc.perform(authorized(get("/api/expenses/date-range?startDate="
+                + today.minusMonths(1) + "&endDate=" + today))).andExpect(status().isOk()));
+    }
+
+    @Test
+    void createExpense() throws Exception {
+        assertMaxQueries(6, () -> mockMvc.perform(authorized(post("/api/expenses"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(String.format(Locale.ROOT, "{\"amount\":12.50,\"category\":\"Groceries\","
+                        + "\"description\":\"Query budget\",\"transactionDate\":\"%s\"}", today)))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void incomePage() throws Exception {
+        assertMaxQueries(4, () -> mockMvc.perform(authorized(get("/api/incomes?limit=50"))).andExpect(status().isOk()));
+    }
+
+    @Test
+    void budgets() throws Exception {
+        assertMaxQueries(3, () -> mockMvc.perform(authorized(get("/api/budgets"))).andExpect(status().isOk()));
+    }
+
+    @Test
+    void budgetsByMonth() throws Exception {
+        assertMaxQueries(3, () -> mockMvc.perform(authorized(get("/api/budgets/month/" + month + "/year/" + year)))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void budgetProgress() throws Exception {
+        assertMaxQueries(4, () -> mockMvc.perform(authorized(get("/api/budgets/progress?month=" + month + "&year=" + year)))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void monthlySummary() throws Exception {
+        assertMaxQueries(4, () -> mockMvc.perform(authorized(get("/api/summaries/month/" + month + "/year/" + year)))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void dashboard() throws Exception {
+        assertMaxQueries(8, () -> mockMvc.perform(authorized(get("/api/dashboard"))).andExpect(status().isOk()));
+    }
+
+    @Test
+    void forecast() throws Exception {
+        assertMaxQueries(6, () -> mockMvc.perform(authorized(get("/api/forecast"))).andExpect(status().isOk()));
+    }
+
+    @Test
+    void analyticsSeries() throws Exception {
+        assertMaxQueries(4, () -> mockMvc.perform(authorized(get("/api/analytics/series"))).andExpect(status().isOk()));
+    }
+
+    @Test
+    void alerts() throws Exception {
+        assertMaxQueries(3, () -> mockMvc.perform(authorized(get("/api/alerts"))).andExpect(status().isOk()));
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return WebTestSupport.authorized(request, token);
+    }
+}
@@ -0,0 +1,82 @@
+package com.finance.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "TestSecretKeyForJWTTokenGenerationThatIsLongEnough1234567890";
+
+    @Test
+    void verifiedClaimsAreServedFromTheCache() {
+        JwtUtil jwtUtil = jwtUtil(60_000L, 10);
+        String token = jwtUtil.generateToken("alice@example.com");
+
+        Claims first = jwtUtil.extractAllClaims(token);
+
+        assertThat(jwtUtil.extractAllClaims(token)).isSameAs(first);
+        assertThat(cache(jwtUtil).estimatedSize()).isEqualTo(1);
+    }
+
+    @Test
+    void expiredTokenIsRejectedAfterBeingCached() throws InterruptedException {
+        JwtUtil jwtUtil = jwtUtil(1_000L, 10);
+        String token = jwtUtil.generateToken("alice@example.com");
+        assertThat(jwtUtil.extractUsername(token)).isEqualTo("alice@example.com");
+
+        Thread.sleep(1_100);
+
+        assertThatThrownBy(() -> jwtUtil.extractAllClaims(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(cache(jwtUtil).getIfPresent(digest(jwtUtil, token))).isNull();
+    }
+
+    @Test
+    void cacheIsBoundedBySize() {
+        JwtUtil jwtUtil = jwtUtil(60_000L, 2);
+        for (int i = 0; i < 5; i++) {
+            jwtUtil.extractAllClaims(jwtUtil.generateToken("user" + i + "@example.com"));
+        }
+
+        Cache<String, Claims> cache = cache(jwtUtil);
+        cache.cleanUp();
+        assertThat(cache.estimatedSize()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void tamperedTokenIsNotServedFromTheCache() {
+        JwtUtil jwtUtil = jwtUtil(60_000L, 10);
+        String token = jwtUtil.generateToken("alice@example.com");
+        jwtUtil.extractAllClaims(token);
+
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+        char flipped = signature.charAt(0) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, token.lastIndexOf('.') + 1) + flipped + signature.substring(1);
+
+        assertThatThrownBy(() -> jwtUtil.extractAllClaims(tampered)).isInstanceOf(SignatureException.class);
+    }
+
+    private static JwtUtil jwtUtil(long expirationMillis, int claimsCacheSize) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", expirationMillis);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheSize", claimsCacheSize);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cache<String, Claims> cache(JwtUtil jwtUtil) {
+        return (Cache<String, Claims>) ReflectionTestUtils.getField(jwtUtil, "verifiedClaims");
+    }
+
+    private static String digest(JwtUtil jwtUtil, String token) {
+        return ReflectionTestUtils.invokeMethod(jwtUtil, "digest", token);
+    }
+}
@@ -0,0 +1,64 @@
+package com.finance.security;
+
+import com.finance.model.User;
+import com.finance.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("local")
+class LoginRehashTest {
+
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${finance.security.bcrypt-strength}")
+    private int strength;
+
+    @Test
+    void loginRehashesAtTheConfiguredCost() {
+        User user = user(new BCryptPasswordEncoder(4).encode("secret"));
+
+        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(user.getEmail(), "secret"));
+
+        String stored = userRepository.findByEmail(user.getEmail()).orElseThrow().getPassword();
+        assertThat(stored).startsWith(String.format("$2a$%02d$", strength));
+        // The cached principal carries the new hash too, so the next login still succeeds.
+        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(user.getEmail(), "secret"));
+    }
+
+    @Test
+    void failedLoginKeepsTheOldHash() {
+        String oldHash = new BCryptPasswordEncoder(4).encode("secret");
+        User user = user(oldHash);
+
+        assertThatThrownBy(() -> authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(user.getEmail(), "wrong")))
+                .isInstanceOf(BadCredentialsException.class);
+
+        assertThat(userRepository.findByEmail(user.getEmail()).orElseThrow().getPassword()).isEqualTo(oldHash);
+    }
+
+    private User user(String passwordHash) {
+        User user = new User();
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setPassword(passwordHash);
+        user.setFullName("Rehash");
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,38 @@
+package com.finance.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MeteredBCryptPasswordEncoderTest {
+
+    @Test
+    void upgradesHashesOfAnyOtherCost() {
+        MeteredBCryptPasswordEncoder encoder = new MeteredBCryptPasswordEncoder(5, new SimpleMeterRegistry());
+
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("secret"))).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("secret"))).isFalse();
+        assertThat(encoder.upgradeEncoding("{noop}secret")).isFalse();
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+    }
+
+    @Test
+    void verifiesHashesOfOtherCostsAndTimesEveryCall() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MeteredBCryptPasswordEncoder encoder = new MeteredBCryptPasswordEncoder(5, registry);
+
+        String hash = encoder.encode("secret");
+        assertThat(hash).startsWith("$2a$05$");
+        assertThat(encoder.matches("secret", hash)).isTrue();
+        assertThat(encoder.matches("secret", new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        assertThat(encoder.matches("wrong", hash)).isFalse();
+
+        assertThat(registry.get("password.hash").tags("operation", "encode", "cost", "5").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("password.hash").tags("operation", "matches", "cost", "5").timer().count())
+                .isEqualTo(3);
+    }
+}
@@ -0,0 +1,99 @@
+package com.finance.service;
+
+import com.finance.model.Expense;
+import com.finance.model.MonthlySummary;
+import com.finance.model.User;
+import com.finance.repository.MonthlySummaryRepository;
+import com.finance.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("local")
+class AggregateCacheServiceTest {
+
+    @Autowired
+    private AggregateCacheService aggregateCacheService;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private MonthlySummaryRepository monthlySummaryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void createUser() {
+        user = new User();
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setPassword("x");
+        user.setFullName("Aggregates");
+        user = userRepository.save(user);
+    }
+
+    @Test
+    void spentByCategoryComesFromTheRollup() {
+        // Summary rows without any expense rows behind them: only the rollup can produce these totals.
+        transactionTemplate.executeWithoutResult(status -> {
+            monthlySummaryRepository.applyDelta(user.getId(), "EXPENSE", 2019, 5, "Rent", new BigDecimal("900.00"), 1);
+            monthlySummaryRepository.applyDelta(user.getId(), "EXPENSE", 2019, 5, "Food", new BigDecimal("45.50"), 3);
+            monthlySummaryRepository.applyDelta(user.getId(), "INCOME", 2019, 5, "Salary", new BigDecimal("3000.00"), 1);
+            monthlySummaryRepository.applyDelta(user.getId(), "EXPENSE", 2019, 6, "Rent", new BigDecimal("900.00"), 1);
+        });
+
+        Map<String, BigDecimal> spent = aggregateCacheService.getSpentByCategory(user.getId(), 5, 2019);
+
+        assertThat(spent).containsOnlyKeys("Rent", "Food");
+        assertThat(spent.get("Rent")).isEqualByComparingTo("900.00");
+        assertThat(spent.get("Food")).isEqualByComparingTo("45.50");
+    }
+
+    @Test
+    void summariesOfBothKindsAreSplitByKind() {
+        transactionTemplate.executeWithoutResult(status -> {
+            monthlySummaryRepository.applyDelta(user.getId(), "EXPENSE", 2019, 9, "Rent", new BigDecimal("900.00"), 1);
+            monthlySummaryRepository.applyDelta(user.getId(), "INCOME", 2019, 9, "Salary", new BigDecimal("3000.00"), 1);
+        });
+
+        Map<MonthlySummary.Kind, List<MonthlySummary>> summaries = aggregateCacheService.getSummaries(user.getId(), 9, 2019);
+
+        assertThat(summaries.get(MonthlySummary.Kind.EXPENSE)).extracting(MonthlySummary::getCategory).containsExactly("Rent");
+        assertThat(summaries.get(MonthlySummary.Kind.INCOME)).extracting(MonthlySummary::getCategory).containsExactly("Salary");
+        assertThat(aggregateCacheService.getSummaries(user.getId(), 10, 2019).get(MonthlySummary.Kind.INCOME)).isEmpty();
+    }
+
+    @Test
+    void writeIsVisibleAfterEviction() {
+        assertThat(aggregateCacheService.getSpentByCategory(user.getId(), 7, 2019)).isEmpty();
+
+        Expense expense = new Expense();
+        expense.setAmount(new BigDecimal("12.34"));
+        expense.setCategory("Books");
+        expense.setTransactionDate(LocalDate.of(2019, 7, 15));
+        expenseService.create(user, expense);
+
+        assertThat(aggregateCacheService.getSpentByCategory(user.getId(), 7, 2019).get("Books"))
+                .isEqualByComparingTo("12.34");
+        assertThat(monthlySummaryRepository.findByUserIdAndKindAndYearAndMonth(
+                user.getId(), MonthlySummary.Kind.EXPENSE, 2019, 7)).hasSize(1);
+    }
+}
@@ -0,0 +1,140 @@
+package com.finance.service;
+
+import com.finance.model.Expense;
+import com.finance.model.Income;
+import com.finance.model.User;
+import com.finance.repository.ArchivedExpenseRepository;
+import com.finance.repository.ArchivedIncomeRepository;
+import com.finance.repository.ExpenseRepository;
+import com.finance.repository.IncomeRepository;
+import com.finance.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("local")
+class ArchiveServiceTest {
+
+    private static final LocalDate CUTOFF = LocalDate.of(2000, 1, 1);
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private IncomeRepository incomeRepository;
+
+    @Autowired
+    private ArchivedExpenseRepository archivedExpenseRepository;
+
+    @Autowired
+    private ArchivedIncomeRepository archivedIncomeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void createUser() {
+        user = new User();
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setPassword("x");
+        user.setFullName("Archive");
+        user = userRepository.save(user);
+    }
+
+    @Test
+    void movesOnlyRowsBeforeTheCutoff() {
+        Expense old = expense(CUTOFF.minusDays(1));
+        Expense onCutoff = expense(CUTOFF);
+        Income oldIncome = income(CUTOFF.minusDays(1), false);
+        Income oldRecurring = income(CUTOFF.minusDays(1), true);
+        Income newIncome = income(CUTOFF, false);
+
+        archiveService.archiveOlderThan(CUTOFF);
+
+        assertArchived(old, true);
+        assertArchived(onCutoff, false);
+        assertArchived(oldIncome, true);
+        assertArchived(oldRecurring, false);
+        assertArchived(newIncome, false);
+    }
+
+    @Test
+    void rowChangedAfterSelectionStaysHot() {
+        Expense redated = expense(CUTOFF.minusDays(1));
+        Expense old = expense(CUTOFF.minusDays(2));
+        Income madeRecurring = income(CUTOFF.minusDays(1), false);
+
+        // Between the mover's id query and its copy, the owner moves one row forward and makes
+        // the income recurring.
+        List<Long> expenseIds = expenseRepository.findIdsOlderThan(CUTOFF, PageRequest.of(0, 1000));
+        List<Long> incomeIds = incomeRepository.findIdsOlderThan(CUTOFF, PageRequest.of(0, 1000));
+        assertThat(expenseIds).contains(redated.getId(), old.getId());
+        assertThat(incomeIds).contains(madeRecurring.getId());
+        redated.setTransactionDate(CUTOFF.plusDays(10));
+        expenseRepository.save(redated);
+        madeRecurring.setRecurring(true);
+        incomeRepository.save(madeRecurring);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            archivedExpenseRepository.copyFromHot(expenseIds, CUTOFF);
+            expenseRepository.deleteOlderThan(expenseIds, CUTOFF);
+            archivedIncomeRepository.copyFromHot(incomeIds, CUTOFF);
+            incomeRepository.deleteOlderThan(incomeIds, CUTOFF);
+        });
+
+        assertArchived(redated, false);
+        assertArchived(old, true);
+        assertArchived(madeRecurring, false);
+    }
+
+    private Expense expense(LocalDate date) {
+        Expense expense = new Expense();
+        expense.setUser(user);
+        expense.setAmount(new BigDecimal("10.00"));
+        expense.setCategory("Archive");
+        expense.setDescription("archive test");
+        expense.setTransactionDate(date);
+        return expenseRepository.save(expense);
+    }
+
+    private Income income(LocalDate date, boolean recurring) {
+        Income income = new Income();
+        income.setUser(user);
+        income.setAmount(new BigDecimal("100.00"));
+        income.setSource("Archive");
+        income.setFrequency(recurring ? Income.Frequency.MONTHLY : Income.Frequency.ONE_TIME);
+        income.setRecurring(recurring);
+        income.setTransactionDate(date);
+        return incomeRepository.save(income);
+    }
+
+    private void assertArchived(Expense expense, boolean archived) {
+        assertThat(archivedExpenseRepository.existsById(expense.getId())).isEqualTo(archived);
+        assertThat(expenseRepository.existsById(expense.getId())).isEqualTo(!archived);
+    }
+
+    private void assertArchived(Income income, boolean archived) {
+        assertThat(archivedIncomeRepository.existsById(income.getId())).isEqualTo(archived);
+        assertThat(incomeRepository.existsById(income.getId())).isEqualTo(!archived);
+    }
+}
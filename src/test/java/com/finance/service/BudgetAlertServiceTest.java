@@ -0,0 +1,109 @@
+package com.finance.service;
+
+import com.finance.model.Budget;
+import com.finance.model.User;
+import com.finance.repository.BudgetAlertRepository;
+import com.finance.repository.BudgetRepository;
+import com.finance.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("local")
+class BudgetAlertServiceTest {
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private BudgetAlertRepository budgetAlertRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User owner;
+    private Budget budget;
+
+    @BeforeEach
+    void createBudget() {
+        owner = new User();
+        owner.setEmail(UUID.randomUUID() + "@example.com");
+        owner.setPassword("x");
+        owner.setFullName("Alerts");
+        owner = userRepository.save(owner);
+        budget = new Budget();
+        budget.setUser(owner);
+        budget.setCategory("Dining");
+        budget.setBudgetAmount(new BigDecimal("100.00"));
+        budget.setMonth(8);
+        budget.setYear(2020);
+        budget = budgetRepository.save(budget);
+    }
+
+    @Test
+    void repeatedCrossingKeepsOneAlert() {
+        assertThat(insertAlert(80)).isEqualTo(1);
+        assertThat(insertAlert(80)).isZero();
+        assertThat(insertAlert(100)).isEqualTo(1);
+
+        assertThat(budgetAlertRepository.findAll().stream()
+                .filter(alert -> alert.getBudgetId().equals(budget.getId()))
+                .map(alert -> alert.getThreshold()))
+                .containsExactlyInAnyOrder(80, 100);
+    }
+
+    @Test
+    void evaluationsOfOneBudgetRunOneAfterAnother() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            assertThat(lock()).isTrue();
+            locked.countDown();
+            await(release);
+        }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(
+                () -> transactionTemplate.execute(status -> lock()));
+        assertThatThrownBy(() -> second.get(500, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+        release.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        assertThat(second.get(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private boolean lock() {
+        return budgetRepository.lockByUserIdAndCategoryAndMonthAndYear(owner.getId(), "Dining", 8, 2020).isPresent();
+    }
+
+    private int insertAlert(int threshold) {
+        return transactionTemplate.execute(status -> budgetAlertRepository.insertIfAbsent(owner.getId(),
+                budget.getId(), "Dining", 8, 2020, threshold, new BigDecimal("120.00"), new BigDecimal("100.00")));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
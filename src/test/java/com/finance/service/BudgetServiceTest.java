@@ -0,0 +1,118 @@
+package com.finance.service;
+
+import com.finance.model.Budget;
+import com.finance.model.User;
+import com.finance.repository.BudgetAlertRepository;
+import com.finance.repository.BudgetRepository;
+import com.finance.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("local")
+class BudgetServiceTest {
+
+    @Autowired
+    private BudgetService budgetService;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private BudgetAlertRepository budgetAlertRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User owner;
+    private Budget budget;
+
+    // Saved through the repository, so no alert evaluation runs behind the test's back.
+    @BeforeEach
+    void createBudgetWithAlert() {
+        owner = user();
+        budget = new Budget();
+        budget.setUser(owner);
+        budget.setCategory("Travel");
+        budget.setBudgetAmount(new BigDecimal("100.00"));
+        budget.setMonth(3);
+        budget.setYear(2021);
+        budget = budgetRepository.save(budget);
+        transactionTemplate.executeWithoutResult(status -> budgetAlertRepository.insertIfAbsent(owner.getId(),
+                budget.getId(), "Travel", 3, 2021, 100, new BigDecimal("120.00"), new BigDecimal("100.00")));
+    }
+
+    @Test
+    void failedUpdateKeepsAlertsAndBudget() {
+        Budget details = details("Travel", 4);
+        details.setCategory(null);
+
+        assertThatThrownBy(() -> budgetService.update(owner.getId(), budget.getId(), details));
+
+        assertThat(alerts()).isEqualTo(1);
+        assertThat(budgetRepository.findById(budget.getId()).orElseThrow().getCategory()).isEqualTo("Travel");
+    }
+
+    @Test
+    void movingBudgetDropsItsAlerts() {
+        assertThat(budgetService.update(owner.getId(), budget.getId(), details("Travel", 4))).isPresent();
+
+        assertThat(alerts()).isZero();
+        assertThat(budgetRepository.findById(budget.getId()).orElseThrow().getMonth()).isEqualTo(4);
+    }
+
+    @Test
+    void otherUsersBudgetIsNotFound() {
+        Long stranger = user().getId();
+
+        assertThat(budgetService.update(stranger, budget.getId(), details("Travel", 4))).isEmpty();
+        assertThat(budgetService.delete(stranger, budget.getId())).isFalse();
+
+        assertThat(budgetRepository.existsById(budget.getId())).isTrue();
+        assertThat(alerts()).isEqualTo(1);
+    }
+
+    @Test
+    void deleteRemovesBudgetAndAlerts() {
+        assertThat(budgetService.delete(owner.getId(), budget.getId())).isTrue();
+
+        assertThat(budgetRepository.existsById(budget.getId())).isFalse();
+        assertThat(alerts()).isZero();
+    }
+
+    private long alerts() {
+        return budgetAlertRepository.findAll().stream()
+                .filter(alert -> alert.getBudgetId().equals(budget.getId()))
+                .count();
+    }
+
+    private Budget details(String category, int month) {
+        Budget details = new Budget();
+        details.setCategory(category);
+        details.setBudgetAmount(new BigDecimal("150.00"));
+        details.setMonth(month);
+        details.setYear(2021);
+        return details;
+    }
+
+    private User user() {
+        User user = new User();
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setPassword("x");
+        user.setFullName("Budget");
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,135 @@
+package com.finance.service;
+
+import com.finance.model.Income;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the cent-bucket engine against a day-by-day BigDecimal calculation of the same forecast.
+ */
+class CashFlowForecastEngineTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 30);
+    private static final int DAYS = 800;
+
+    @Test
+    void incomeMatchesBigDecimalReference() {
+        Random random = new Random(11);
+        List<Income> incomes = new ArrayList<>();
+        for (Income.Frequency frequency : Income.Frequency.values()) {
+            for (int i = 0; i < 6; i++) {
+                // Anchors on both sides of FROM, including month ends that need clamping.
+                LocalDate anchor = i % 3 == 0
+                        ? LocalDate.of(2023, 1 + random.nextInt(12), 1).plusMonths(1).minusDays(1)
+                        : FROM.plusDays(random.nextInt(900) - 450);
+                incomes.add(income(frequency, anchor, BigDecimal.valueOf(random.nextInt(500000), 2)));
+            }
+        }
+
+        long[] cents = CashFlowForecastEngine.incomeByDay(FROM, DAYS, incomes);
+
+        Map<LocalDate, BigDecimal> expected = referenceIncome(incomes);
+        for (int i = 0; i < DAYS; i++) {
+            LocalDate day = FROM.plusDays(i);
+            assertThat(CashFlowForecastEngine.fromCents(cents[i]))
+                    .as("income on %s", day)
+                    .isEqualByComparingTo(expected.getOrDefault(day, BigDecimal.ZERO));
+        }
+    }
+
+    @Test
+    void spendingAddsUpToTheMonthlyAmountEveryMonth() {
+        BigDecimal monthly = new BigDecimal("2491.54");
+
+        long[] cents = CashFlowForecastEngine.spendingByDay(FROM, DAYS, CashFlowForecastEngine.toCents(monthly));
+
+        Map<LocalDate, BigDecimal> byMonth = new HashMap<>();
+        for (int i = 0; i < DAYS; i++) {
+            LocalDate day = FROM.plusDays(i);
+            BigDecimal perDay = CashFlowForecastEngine.fromCents(cents[i]);
+            BigDecimal even = monthly.divide(BigDecimal.valueOf(day.lengthOfMonth()), 10, RoundingMode.HALF_UP);
+            assertThat(perDay.subtract(even).abs()).as("spending on %s", day).isLessThan(new BigDecimal("0.01"));
+            byMonth.merge(day.withDayOfMonth(1), perDay, BigDecimal::add);
+        }
+        LocalDate end = FROM.plusDays(DAYS);
+        for (LocalDate month = FROM.withDayOfMonth(1).plusMonths(1); month.plusMonths(1).isBefore(end);
+             month = month.plusMonths(1)) {
+            assertThat(byMonth.get(month)).as("spending in %s", month).isEqualByComparingTo(monthly);
+        }
+    }
+
+    @Test
+    void balancesMatchBigDecimalRunningSum() {
+        Random random = new Random(5);
+        long[] income = new long[DAYS];
+        long[] spending = new long[DAYS];
+        for (int i = 0; i < DAYS; i++) {
+            income[i] = random.nextInt(5) == 0 ? random.nextInt(1_000_000) : 0;
+            spending[i] = random.nextInt(20_000);
+        }
+        BigDecimal starting = new BigDecimal("-1234.56");
+
+        long[] balances = CashFlowForecastEngine.balances(CashFlowForecastEngine.toCents(starting), income, spending);
+
+        BigDecimal balance = starting;
+        for (int i = 0; i < DAYS; i++) {
+            balance = balance.add(BigDecimal.valueOf(income[i], 2)).subtract(BigDecimal.valueOf(spending[i], 2));
+            assertThat(CashFlowForecastEngine.fromCents(balances[i])).isEqualByComparingTo(balance);
+        }
+    }
+
+    @Test
+    void centsRoundHalfUp() {
+        assertThat(CashFlowForecastEngine.toCents(new BigDecimal("10.005"))).isEqualTo(1001);
+        assertThat(CashFlowForecastEngine.toCents(new BigDecimal("-10.005"))).isEqualTo(-1001);
+        assertThat(CashFlowForecastEngine.toCents(new BigDecimal("7"))).isEqualTo(700);
+    }
+
+    // Walks every occurrence from the anchor, one period at a time.
+    private static Map<LocalDate, BigDecimal> referenceIncome(List<Income> incomes) {
+        LocalDate end = FROM.plusDays(DAYS);
+        Map<LocalDate, BigDecimal> byDay = new HashMap<>();
+        for (Income income : incomes) {
+            LocalDate anchor = income.getTransactionDate();
+            for (int k = 0; ; k++) {
+                LocalDate date = switch (income.getFrequency()) {
+                    case DAILY -> anchor.plusDays(k);
+                    case WEEKLY -> anchor.plusWeeks(k);
+                    case BIWEEKLY -> anchor.plusWeeks(2L * k);
+                    case MONTHLY -> anchor.plusMonths(k);
+                    case QUARTERLY -> anchor.plusMonths(3L * k);
+                    case YEARLY -> anchor.plusYears(k);
+                    case ONE_TIME -> k == 0 ? anchor : end;
+                };
+                if (!date.isBefore(end)) {
+                    break;
+                }
+                if (ChronoUnit.DAYS.between(FROM, date) >= 0) {
+                    byDay.merge(date, income.getAmount(), BigDecimal::add);
+                }
+            }
+        }
+        return byDay;
+    }
+
+    private static Income income(Income.Frequency frequency, LocalDate anchor, BigDecimal amount) {
+        Income income = new Income();
+        income.setFrequency(frequency);
+        income.setRecurring(true);
+        income.setTransactionDate(anchor);
+        income.setAmount(amount);
+        income.setSource(frequency.name());
+        return income;
+    }
+}
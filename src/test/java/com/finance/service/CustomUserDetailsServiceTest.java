@@ -0,0 +1,115 @@
+package com.finance.service;
+
+import com.finance.model.User;
+import com.finance.repository.UserRepository;
+import com.finance.security.AuthenticatedUser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The user lookup runs on every authenticated request, so the transactions it opens are counted
+ * through Hibernate's statistics and the pool it borrows from through the HikariCP acquire counters.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("local")
+class CustomUserDetailsServiceTest {
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void missReadsPrimaryAndHitOpensNoTransaction() {
+        User user = user();
+
+        long primary = acquired("primary");
+        long replica = acquired("replica-0");
+        assertThat(userDetailsService.loadUserByUsername(user.getEmail()).getUsername()).isEqualTo(user.getEmail());
+        assertThat(acquired("primary")).isEqualTo(primary + 1);
+        assertThat(acquired("replica-0")).isEqualTo(replica);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long transactions = statistics.getTransactionCount();
+        userDetailsService.loadUserByUsername(user.getEmail());
+        assertThat(statistics.getTransactionCount()).isEqualTo(transactions);
+        assertThat(acquired("primary")).isEqualTo(primary + 1);
+        assertThat(acquired("replica-0")).isEqualTo(replica);
+    }
+
+    @Test
+    void evictedUserIsReloaded() {
+        User user = user();
+        userDetailsService.loadUserByUsername(user.getEmail());
+        changePassword(user);
+
+        assertThat(userDetailsService.loadUserByUsername(user.getEmail()).getPassword()).isEqualTo("x");
+        userDetailsService.evict(user.getEmail());
+        assertThat(userDetailsService.loadUserByUsername(user.getEmail()).getPassword()).isEqualTo("changed");
+    }
+
+    @Test
+    void entriesExpireAfterTheTtl() {
+        User user = user();
+        CustomUserDetailsService expiring = new CustomUserDetailsService();
+        ReflectionTestUtils.setField(expiring, "userRepository", userRepository);
+        ReflectionTestUtils.setField(expiring, "userCacheSize", 10);
+        ReflectionTestUtils.setField(expiring, "userCacheTtlMinutes", 0L);
+        expiring.init();
+
+        expiring.loadUserByUsername(user.getEmail());
+        changePassword(user);
+
+        assertThat(expiring.loadUserByUsername(user.getEmail()).getPassword()).isEqualTo("changed");
+    }
+
+    @Test
+    void cachedPrincipalIsACopy() {
+        User user = user();
+        AuthenticatedUser first = (AuthenticatedUser) userDetailsService.loadUserByUsername(user.getEmail());
+        first.eraseCredentials();
+
+        assertThat(userDetailsService.loadUserByUsername(user.getEmail()).getPassword()).isEqualTo("x");
+    }
+
+    private void changePassword(User user) {
+        transactionTemplate.executeWithoutResult(status -> userRepository.updatePassword(user.getEmail(), "changed"));
+    }
+
+    private User user() {
+        User user = new User();
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setPassword("x");
+        user.setFullName("Lookup");
+        return userRepository.save(user);
+    }
+
+    // A pool registers its meters when it starts, on its first connection.
+    private long acquired(String pool) {
+        Timer timer = meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
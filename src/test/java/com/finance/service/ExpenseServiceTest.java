@@ -0,0 +1,130 @@
+package com.finance.service;
+
+import com.finance.dto.CursorPage;
+import com.finance.dto.ExpenseView;
+import com.finance.model.Expense;
+import com.finance.model.User;
+import com.finance.repository.ExpenseRepository;
+import com.finance.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("local")
+class ExpenseServiceTest {
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+
+    @BeforeEach
+    void createOwner() {
+        owner = user();
+    }
+
+    @Test
+    void otherUsersExpenseIsNotFound() {
+        Expense expense = expenseService.create(owner, expense("Food", "20.00", LocalDate.of(2022, 5, 10)));
+        Long stranger = user().getId();
+
+        assertThat(expenseService.update(stranger, expense.getId(), expense("Rent", "1.00", LocalDate.of(2022, 5, 10))))
+                .isEmpty();
+        assertThat(expenseService.delete(stranger, expense.getId())).isFalse();
+
+        Expense stored = expenseRepository.findById(expense.getId()).orElseThrow();
+        assertThat(stored.getCategory()).isEqualTo("Food");
+    }
+
+    @Test
+    void ownerUpdatesAndDeletes() {
+        Expense expense = expenseService.create(owner, expense("Food", "20.00", LocalDate.of(2022, 5, 10)));
+
+        assertThat(expenseService.update(owner.getId(), expense.getId(), expense("Rent", "30.00", LocalDate.of(2022, 5, 11))))
+                .hasValueSatisfying(view -> assertThat(view.category()).isEqualTo("Rent"));
+        assertThat(expenseService.delete(owner.getId(), expense.getId())).isTrue();
+        assertThat(expenseService.delete(owner.getId(), expense.getId())).isFalse();
+    }
+
+    @Test
+    void keysetPagesVisitTiedDatesOnceInOrder() {
+        LocalDate tied = LocalDate.of(2022, 6, 15);
+        List<Long> tiedIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tiedIds.add(expenseService.create(owner, expense("Food", "1.00", tied)).getId());
+        }
+        Long newest = expenseService.create(owner, expense("Food", "1.00", tied.plusDays(1))).getId();
+        Long older = expenseService.create(owner, expense("Food", "1.00", tied.minusDays(1))).getId();
+        // Archived rows continue the listing, two of them on the same date.
+        LocalDate old = LocalDate.of(1999, 3, 1);
+        Long archivedFirst = expenseService.create(owner, expense("Food", "1.00", old)).getId();
+        Long archivedSecond = expenseService.create(owner, expense("Food", "1.00", old)).getId();
+        archiveService.archiveOlderThan(LocalDate.of(2000, 1, 1));
+
+        // (transactionDate DESC, id DESC): ties come out highest id first.
+        List<Long> expected = new ArrayList<>();
+        expected.add(newest);
+        Collections.reverse(tiedIds);
+        expected.addAll(tiedIds);
+        expected.add(older);
+        expected.add(archivedSecond);
+        expected.add(archivedFirst);
+        for (int pageSize = 1; pageSize <= 4; pageSize++) {
+            assertThat(pageThrough(pageSize)).as("page size %d", pageSize).containsExactlyElementsOf(expected);
+        }
+    }
+
+    // Walks the listing the way the controller does: window of pageSize + 1, then the cursor.
+    private List<Long> pageThrough(int pageSize) {
+        List<Long> seen = new ArrayList<>();
+        CursorPage.Position after = null;
+        while (true) {
+            CursorPage<ExpenseView> page = CursorPage.of(expenseService.findPage(owner.getId(), after, pageSize + 1),
+                    pageSize, ExpenseView::transactionDate, ExpenseView::id);
+            assertThat(page.getItems().size()).isLessThanOrEqualTo(pageSize);
+            page.getItems().forEach(view -> seen.add(view.id()));
+            if (page.getNextCursor() == null) {
+                return seen;
+            }
+            after = CursorPage.decodeCursor(page.getNextCursor());
+        }
+    }
+
+    private Expense expense(String category, String amount, LocalDate date) {
+        Expense expense = new Expense();
+        expense.setAmount(new BigDecimal(amount));
+        expense.setCategory(category);
+        expense.setDescription(category + " expense");
+        expense.setTransactionDate(date);
+        return expense;
+    }
+
+    private User user() {
+        User user = new User();
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setPassword("x");
+        user.setFullName("Expense");
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,147 @@
+package com.finance.service;
+
+import com.finance.model.Expense;
+import com.finance.model.Income;
+import com.finance.model.MonthlySummary;
+import com.finance.model.User;
+import com.finance.repository.MonthlySummaryRepository;
+import com.finance.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("local")
+class MonthlySummaryServiceTest {
+
+    private static final LocalDate MAY = LocalDate.of(2023, 5, 10);
+    private static final LocalDate JUNE = LocalDate.of(2023, 6, 3);
+
+    @Autowired
+    private MonthlySummaryService monthlySummaryService;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private TransactionImportService transactionImportService;
+
+    @Autowired
+    private MonthlySummaryRepository monthlySummaryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void createUser() {
+        user = new User();
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setPassword("x");
+        user.setFullName("Rollup");
+        user = userRepository.save(user);
+    }
+
+    @Test
+    void insertUpdateAndDeleteMoveTheRollup() {
+        Expense first = expenseService.create(user, expense("Food", "10.00", MAY));
+        Expense second = expenseService.create(user, expense("Food", "5.25", MAY));
+        assertRollup(MAY, "Food", "15.25", 2);
+
+        expenseService.update(user.getId(), second.getId(), expense("Rent", "7.00", JUNE));
+        assertRollup(MAY, "Food", "10.00", 1);
+        assertRollup(JUNE, "Rent", "7.00", 1);
+
+        expenseService.delete(user.getId(), first.getId());
+        assertThat(row(MAY, "Food")).isEmpty();
+        assertRollup(JUNE, "Rent", "7.00", 1);
+        assertMatchesRebuild();
+    }
+
+    @Test
+    void importAndBulkDeleteMoveTheRollup() {
+        assertThat(transactionImportService.importExpenses(user.getId(), List.of(
+                expense("Food", "1.10", MAY), expense("Food", "2.20", MAY), expense("Fuel", "30.00", JUNE),
+                expense("Food", "1.005", MAY))).getImported()).isEqualTo(3);
+        assertThat(transactionImportService.importIncomes(user.getId(), List.of(
+                income("Salary", "2500.00", MAY), income("Salary", "100.00", MAY))).getImported()).isEqualTo(2);
+        assertRollup(MAY, "Food", "3.30", 2);
+        assertRollup(JUNE, "Fuel", "30.00", 1);
+        assertThat(row(MonthlySummary.Kind.INCOME, MAY, "Salary")).hasValueSatisfying(summary -> {
+            assertThat(summary.getTotalAmount()).isEqualByComparingTo("2600.00");
+            assertThat(summary.getTransactionCount()).isEqualTo(2);
+        });
+        assertMatchesRebuild();
+
+        assertThat(expenseService.deleteAllBetween(user.getId(), MAY.withDayOfMonth(1), MAY.withDayOfMonth(31)))
+                .isEqualTo(2);
+        assertThat(row(MAY, "Food")).isEmpty();
+        assertRollup(JUNE, "Fuel", "30.00", 1);
+        assertMatchesRebuild();
+    }
+
+    // The incremental rollup must equal one recomputed from the transaction tables.
+    private void assertMatchesRebuild() {
+        Map<String, String> incremental = snapshot();
+        monthlySummaryService.rebuild(user.getId());
+        assertThat(snapshot()).isEqualTo(incremental);
+    }
+
+    private Map<String, String> snapshot() {
+        Map<String, String> rows = new TreeMap<>();
+        for (MonthlySummary summary : monthlySummaryRepository.findAll()) {
+            if (summary.getUserId().equals(user.getId())) {
+                rows.put(summary.getKind() + " " + summary.getYear() + "-" + summary.getMonth() + " "
+                                + summary.getCategory(),
+                        summary.getTotalAmount().stripTrailingZeros().toPlainString() + " x" + summary.getTransactionCount());
+            }
+        }
+        return rows;
+    }
+
+    private void assertRollup(LocalDate month, String category, String total, long count) {
+        assertThat(row(month, category)).hasValueSatisfying(summary -> {
+            assertThat(summary.getTotalAmount()).isEqualByComparingTo(total);
+            assertThat(summary.getTransactionCount()).isEqualTo(count);
+        });
+    }
+
+    private Optional<MonthlySummary> row(LocalDate month, String category) {
+        return row(MonthlySummary.Kind.EXPENSE, month, category);
+    }
+
+    private Optional<MonthlySummary> row(MonthlySummary.Kind kind, LocalDate month, String category) {
+        return monthlySummaryRepository.findByUserIdAndKindAndYearAndMonthAndCategory(
+                user.getId(), kind, month.getYear(), month.getMonthValue(), category);
+    }
+
+    private static Expense expense(String category, String amount, LocalDate date) {
+        Expense expense = new Expense();
+        expense.setAmount(new BigDecimal(amount));
+        expense.setCategory(category);
+        expense.setTransactionDate(date);
+        return expense;
+    }
+
+    private static Income income(String source, String amount, LocalDate date) {
+        Income income = new Income();
+        income.setAmount(new BigDecimal(amount));
+        income.setSource(source);
+        income.setFrequency(Income.Frequency.ONE_TIME);
+        income.setTransactionDate(date);
+        return income;
+    }
+}
@@ -0,0 +1,88 @@
+package com.finance.service;
+
+import com.finance.dto.SpendingSeries;
+import com.finance.service.SpendingSeriesBuilder.Granularity;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks the cent-bucket series against BigDecimal sums grouped by bucket and category.
+ */
+class SpendingSeriesBuilderTest {
+
+    private static final LocalDate START = LocalDate.of(2023, 1, 18);
+    private static final LocalDate END = LocalDate.of(2024, 3, 2);
+    private static final String[] CATEGORIES = {"Rent", "Food", "Travel", "Bills"};
+
+    @Test
+    void matchesBigDecimalSumsForEveryGranularity() {
+        List<Row> rows = rows();
+        for (Granularity granularity : Granularity.values()) {
+            SpendingSeriesBuilder builder = new SpendingSeriesBuilder(granularity, START, END);
+            Map<String, Map<LocalDate, BigDecimal>> expected = new HashMap<>();
+            Map<LocalDate, BigDecimal> expectedTotals = new HashMap<>();
+            for (Row row : rows) {
+                builder.add(row.date(), row.category(), row.total());
+                LocalDate bucket = granularity.bucketStart(row.date());
+                expected.computeIfAbsent(row.category(), category -> new HashMap<>())
+                        .merge(bucket, row.total(), BigDecimal::add);
+                expectedTotals.merge(bucket, row.total(), BigDecimal::add);
+            }
+
+            SpendingSeries series = builder.build();
+
+            assertThat(series.getBuckets().get(0)).isEqualTo(granularity.bucketStart(START));
+            assertThat(series.getEndDate()).isEqualTo(granularity.next(granularity.bucketStart(END)).minusDays(1));
+            assertThat(series.getCategories()).containsExactly("Bills", "Food", "Rent", "Travel");
+            for (int b = 0; b < series.getBuckets().size(); b++) {
+                LocalDate bucket = series.getBuckets().get(b);
+                for (int c = 0; c < series.getCategories().size(); c++) {
+                    assertThat(BigDecimal.valueOf(series.getCents()[c][b], 2))
+                            .as("%s %s %s", granularity, series.getCategories().get(c), bucket)
+                            .isEqualByComparingTo(expected.get(series.getCategories().get(c))
+                                    .getOrDefault(bucket, BigDecimal.ZERO));
+                }
+                assertThat(BigDecimal.valueOf(series.getTotalCents()[b], 2))
+                        .as("%s total %s", granularity, bucket)
+                        .isEqualByComparingTo(expectedTotals.getOrDefault(bucket, BigDecimal.ZERO));
+            }
+        }
+    }
+
+    @Test
+    void rejectsRowsOutsideTheRangeAndOversizedRanges() {
+        SpendingSeriesBuilder builder = new SpendingSeriesBuilder(Granularity.MONTH, START, END);
+        assertThatThrownBy(() -> builder.add(START.withDayOfMonth(1).minusDays(1), "Food", BigDecimal.ONE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SpendingSeriesBuilder(Granularity.DAY, START,
+                START.plusDays(SpendingSeriesBuilder.MAX_BUCKETS)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SpendingSeriesBuilder(Granularity.DAY, END, START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // Pre-aggregated rows as the repository returns them, including negative totals (refunds).
+    private static List<Row> rows() {
+        Random random = new Random(3);
+        int days = (int) (END.toEpochDay() - START.toEpochDay()) + 1;
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            rows.add(new Row(START.plusDays(random.nextInt(days)), CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    BigDecimal.valueOf(random.nextInt(2_000_000) - 100_000, 2)));
+        }
+        return rows;
+    }
+
+    private record Row(LocalDate date, String category, BigDecimal total) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.finance.service;
+
+import com.finance.dto.ExpenseView;
+import com.finance.model.Expense;
+import com.finance.model.User;
+import com.finance.repository.ExpenseRepository;
+import com.finance.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("local")
+class TransactionSearchServiceTest {
+
+    private static final LocalDate CUTOFF = LocalDate.of(2000, 1, 1);
+
+    @Autowired
+    private TransactionSearchService transactionSearchService;
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    private User user;
+
+    private String word;
+
+    @BeforeEach
+    void createUser() {
+        user = new User();
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setPassword("x");
+        user.setFullName("Search");
+        user = userRepository.save(user);
+        word = "w" + UUID.randomUUID().toString().replace("-", "");
+    }
+
+    @Test
+    void returnsViewsFromHotRowsThenArchive() {
+        Expense archived = expense(CUTOFF.minusDays(1), "old " + word);
+        Expense older = expense(CUTOFF.plusDays(1), "older " + word);
+        Expense newer = expense(CUTOFF.plusDays(2), "newer " + word);
+        expense(CUTOFF.plusDays(3), "unrelated");
+        archiveService.archiveOlderThan(CUTOFF);
+
+        List<ExpenseView> found = transactionSearchService.searchExpenses(user.getId(), word, 10);
+
+        assertThat(found).extracting(ExpenseView::id)
+                .containsExactly(newer.getId(), older.getId(), archived.getId());
+        assertThat(found.get(0).description()).isEqualTo("newer " + word);
+        assertThat(found.get(0).amount()).isEqualByComparingTo("10.00");
+    }
+
+    @Test
+    void fullTextIdsComeBackInRankOrderForTheOwnerOnly() {
+        Expense first = expense(CUTOFF.plusDays(1), word);
+        Expense second = expense(CUTOFF.plusDays(2), word);
+        Long otherUsersId = -1L;
+
+        List<ExpenseView> views = TransactionSearchService.inRankOrder(
+                List.of(second.getId(), otherUsersId, first.getId()),
+                ids -> expenseRepository.findViewsByUserIdAndIdIn(user.getId(), ids), ExpenseView::id);
+
+        assertThat(views).extracting(ExpenseView::id).containsExactly(second.getId(), first.getId());
+    }
+
+    private Expense expense(LocalDate date, String description) {
+        Expense expense = new Expense();
+        expense.setUser(user);
+        expense.setAmount(new BigDecimal("10.00"));
+        expense.setCategory("Search");
+        expense.setDescription(description);
+        expense.setTransactionDate(date);
+        return expenseRepository.save(expense);
+    }
+}